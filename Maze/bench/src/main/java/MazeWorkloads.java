@@ -0,0 +1,249 @@
+import mazebench.MazeWorkload;
+
+import java.util.Random;
+import java.util.function.Function;
+
+// Implementasi MazeWorkload untuk benchmark JMH (lihat mazebench.MazeWorkload).
+// Memakai model headless (MazeModel / WeightedMazeModel), bukan panel Maze / WeightedMaze,
+// supaya yang diukur hanya algoritma tanpa thread animasi & repaint.
+public final class MazeWorkloads {
+
+    private MazeWorkloads() {}
+
+    public static MazeWorkload create(String name) {
+        switch (name) {
+            case "generatePrim":          return new GeneratePrim();
+            case "generateWeightedTerrain": return new GenerateTerrain();
+            case "generateTiled":         return new Generate(new TiledGenerator(new BacktrackerGenerator(), 256));
+            case "addLoops":              return new AddLoops();
+            case "bfs":                   return new Solve(m -> m.solve(true), new FirstSearchSolver(true), Check.HOPS);
+            case "bfsQueue":              return new Solve(direct(new FirstSearchSolver(true)), new BitBfsSolver(), Check.HOPS);
+            case "dfs":                   return new Solve(m -> m.solve(false), null, Check.PATH);
+            case "dijkstra":              return new Solve(m -> m.solveWeighted(false), new IndexedDijkstraSolver(false), Check.COST);
+            case "astar":                 return new Solve(m -> m.solveWeighted(true), new IndexedDijkstraSolver(false), Check.COST);
+            case "junction":              return new Solve(direct(new JunctionGraphSolver(false)), new IndexedDijkstraSolver(false), Check.COST);
+            case "alt":                   return new Solve(direct(new AltSolver()), new IndexedDijkstraSolver(false), Check.COST);
+            case "hpa":                   return new Solve(direct(new HpaSolver()), new IndexedDijkstraSolver(false), Check.BOUND);
+            // Dead-end filling hanya benar untuk perfect maze: dibandingkan dengan BFS di maze Prim tanpa loops
+            case "deadEndFill":           return new Solve(direct(new DeadEndFillSolver()), new FirstSearchSolver(true), Check.HOPS, true);
+            case "lpaReplan":             return new Replan();
+            default: throw new IllegalArgumentException("Unknown workload: " + name);
+        }
+    }
+
+    // Solver dipanggil langsung (tanpa trace dan tanpa salinan path ke model)
+    private static Function<WeightedMazeModel, SolveResult> direct(MazeSolver solver) {
+        return m -> solver.solve(m, m.getStartCell(), m.getEndCell(), null);
+    }
+
+    // Cara hasil solve dicek terhadap solver referensi
+    enum Check {
+        PATH,  // hanya path valid (DFS tidak menjamin terpendek)
+        HOPS,  // jumlah langkah sama (BFS unweighted)
+        COST,  // total biaya terrain sama (solver exact)
+        BOUND  // ketemu jika referensi ketemu, biaya >= optimal (HPA* mendekati)
+    }
+
+    // Path harus mulai di start, berakhir di end, dan setiap langkah melewati sisi yang terbuka.
+    // Mengembalikan total biaya terrain path (sel start tidak dihitung, sama seperti Dijkstra).
+    static long checkPath(MazeModel model, SolveResult r) {
+        int[] path = r.path;
+        if (!r.found) {
+            if (path.length != 0) throw new IllegalStateException(r.algorithm + ": path returned without a route");
+            return -1;
+        }
+        if (path.length == 0 || path[0] != model.getStartCell() || path[path.length - 1] != model.getEndCell()) {
+            throw new IllegalStateException(r.algorithm + ": path does not connect start and end");
+        }
+        MazeGrid grid = model.getGrid();
+        long cost = 0;
+        for (int i = 1; i < path.length; i++) {
+            int a = path[i - 1], b = path[i], d = 0;
+            while (d < 4 && grid.neighbor(a, d) != b) d++;
+            if (d == 4 || !grid.isOpen(a, d)) {
+                throw new IllegalStateException(r.algorithm + ": illegal step " + a + " -> " + b);
+            }
+            cost += model.cost(b);
+        }
+        return cost;
+    }
+
+    static void check(String workload, MazeModel model, SolveResult r, SolveResult ref, Check check) {
+        long cost = checkPath(model, r);
+        if (ref == null) return;
+        checkPath(model, ref);
+        if (r.found != ref.found) {
+            throw new IllegalStateException(workload + ": found=" + r.found + " but " + ref.algorithm + " found=" + ref.found);
+        }
+        if (!r.found) return;
+        boolean ok = switch (check) {
+            case PATH -> true;
+            case HOPS -> r.path.length == ref.path.length;
+            case COST -> cost == ref.cost;
+            case BOUND -> cost >= ref.cost;
+        };
+        if (!ok) {
+            throw new IllegalStateException(String.format("%s: path %d steps / cost %d, %s: %d steps / cost %d",
+                    workload, r.path.length - 1, cost, ref.algorithm, ref.path.length - 1, ref.cost));
+        }
+    }
+
+    static final class GeneratePrim implements MazeWorkload {
+        private MazeModel model;
+        private long seed;
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new MazeModel(rows, cols);
+            this.seed = seed;
+        }
+
+        @Override
+        public Object run() {
+            model.generatePrim(new Random(seed));
+            return model.getGrid();
+        }
+    }
+
+    static final class Generate implements MazeWorkload {
+        private final MazeGenerator generator;
+        private MazeModel model;
+        private long seed;
+
+        Generate(MazeGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new MazeModel(rows, cols);
+            this.seed = seed;
+        }
+
+        @Override
+        public Object run() {
+            model.generate(generator, new Random(seed));
+            return model.getGrid();
+        }
+    }
+
+    static final class GenerateTerrain implements MazeWorkload {
+        private WeightedMazeModel model;
+        private long seed;
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new WeightedMazeModel(rows, cols);
+            this.seed = seed;
+        }
+
+        @Override
+        public Object run() {
+            model.generateWeightedTerrain(new PrimGenerator(), new Random(seed));
+            return model.getGrid();
+        }
+    }
+
+    // addLoops saja: maze perfect dibuat ulang sebelum setiap pemanggilan (tidak ikut diukur)
+    static final class AddLoops implements MazeWorkload {
+        private WeightedMazeModel model;
+        private long seed;
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new WeightedMazeModel(rows, cols);
+            this.seed = seed;
+        }
+
+        @Override
+        public void prepare() {
+            model.generatePrim(new Random(seed));
+        }
+
+        @Override
+        public Object run() {
+            model.addLoops(new Random(seed), model.getGrid().size() / 10);
+            return model.getGrid();
+        }
+    }
+
+    // Solve di peta terrain (dengan loops) yang dibuat sekali per trial, atau di perfect maze (Prim)
+    static final class Solve implements MazeWorkload {
+        private final Function<WeightedMazeModel, SolveResult> solver;
+        private final MazeSolver reference;
+        private final Check check;
+        private final boolean perfect;
+        private WeightedMazeModel model;
+
+        Solve(Function<WeightedMazeModel, SolveResult> solver, MazeSolver reference, Check check) {
+            this(solver, reference, check, false);
+        }
+
+        Solve(Function<WeightedMazeModel, SolveResult> solver, MazeSolver reference, Check check, boolean perfect) {
+            this.solver = solver;
+            this.reference = reference;
+            this.check = check;
+            this.perfect = perfect;
+        }
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new WeightedMazeModel(rows, cols);
+            if (perfect) model.generate(new PrimGenerator(), new Random(seed));
+            else model.generateWeightedTerrain(new PrimGenerator(), new Random(seed));
+        }
+
+        @Override
+        public Object run() {
+            return solver.apply(model);
+        }
+
+        @Override
+        public void verify() {
+            SolveResult ref = reference != null
+                    ? reference.solve(model, model.getStartCell(), model.getEndCell(), null) : null;
+            SolveResult r = solver.apply(model);
+            check(r.algorithm, model, r, ref, check);
+        }
+    }
+
+    // LPA* setelah satu edit acak (buka / tutup dinding atau ganti terrain); edit dilakukan di prepare
+    // (tidak ikut diukur), jadi yang diukur hanya perbaikan inkremental. Dicek terhadap Dijkstra penuh.
+    static final class Replan implements MazeWorkload {
+        private static final int[] COSTS = {
+                WeightedMazeModel.COST_GRASS, WeightedMazeModel.COST_MUD, WeightedMazeModel.COST_WATER};
+
+        private final IndexedDijkstraSolver reference = new IndexedDijkstraSolver(false);
+        private WeightedMazeModel model;
+        private Random rand;
+
+        @Override
+        public void setup(int rows, int cols, long seed) {
+            model = new WeightedMazeModel(rows, cols);
+            model.generateWeightedTerrain(new PrimGenerator(), new Random(seed));
+            rand = new Random(seed);
+            run();
+        }
+
+        @Override
+        public void prepare() {
+            int cell = rand.nextInt(model.getGrid().size());
+            if (rand.nextBoolean()) model.toggleWall(cell, rand.nextInt(4));
+            else model.setTerrain(cell, COSTS[rand.nextInt(COSTS.length)]);
+        }
+
+        @Override
+        public Object run() {
+            return model.getPlanner().solve(model, model.getStartCell(), model.getEndCell(), null);
+        }
+
+        @Override
+        public void verify() {
+            for (int i = 0; i < 20; i++) {
+                prepare();
+                SolveResult r = (SolveResult) run();
+                check("lpaReplan", model, r, reference.solve(model, model.getStartCell(), model.getEndCell(), null), Check.COST);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package mazebench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// addLoops saja (n / 10 dinding). Maze perfect dibuat ulang di setup per invocation, jadi hanya
+// SampleTime yang bermakna (Level.Invocation tidak cocok untuk Throughput).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddLoopsBenchmark {
+
+    @Param({"100", "300", "1000"})
+    int size;
+
+    @Param({"1", "2", "3"})
+    long seed;
+
+    private MazeWorkload maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = MazeWorkload.create("addLoops");
+        maze.setup(size, size, seed);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        maze.prepare();
+    }
+
+    @Benchmark
+    public Object addLoops() {
+        return maze.run();
+    }
+}
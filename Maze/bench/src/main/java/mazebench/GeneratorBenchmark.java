@@ -0,0 +1,38 @@
+package mazebench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// generatePrim, generateWeightedTerrain (termasuk addLoops) & TiledGenerator paralel untuk beberapa ukuran grid & seed.
+// Throughput + SampleTime (persentil latensi); alokasi lewat: java -jar target/benchmarks.jar -prof gc
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"100", "300", "1000"})
+    int size;
+
+    @Param({"1", "2", "3"})
+    long seed;
+
+    @Param({"generatePrim", "generateWeightedTerrain", "generateTiled"})
+    String workload;
+
+    private MazeWorkload maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = MazeWorkload.create(workload);
+        maze.setup(size, size, seed);
+    }
+
+    @Benchmark
+    public Object generate() {
+        return maze.run();
+    }
+}
@@ -0,0 +1,29 @@
+package mazebench;
+
+// Satu operasi maze yang diukur. JMH tidak menerima benchmark di default package, sedangkan kelas maze
+// ada di default package (tidak bisa di-import dari package bernama), jadi benchmark memanggil maze
+// lewat interface ini; implementasinya ada di MazeWorkloads (default package).
+public interface MazeWorkload {
+
+    // Sekali per trial: alokasi model ukuran rows x cols, siapkan maze jika perlu
+    void setup(int rows, int cols, long seed);
+
+    // Sebelum setiap pemanggilan run() (untuk operasi yang mengubah maze, mis. addLoops)
+    default void prepare() {}
+
+    // Operasi yang diukur; hasil dikembalikan supaya tidak dihapus JIT
+    Object run();
+
+    // Cek hasil run() terhadap solver referensi (sekali per trial, di luar pengukuran);
+    // IllegalStateException jika berbeda, jadi solver yang salah membuat benchmark gagal, bukan terukur
+    default void verify() {}
+
+    // Ambil workload dengan nama tertentu dari MazeWorkloads.create(name)
+    static MazeWorkload create(String name) {
+        try {
+            return (MazeWorkload) Class.forName("MazeWorkloads").getMethod("create", String.class).invoke(null, name);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create workload " + name, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package mazebench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// LPA* (MazeModel.getPlanner) setelah satu edit acak per invocation. Edit dilakukan di setup per invocation,
+// jadi hanya SampleTime yang bermakna. Hasil dicek terhadap Dijkstra penuh sebelum dan sesudah trial,
+// sesudahnya setelah ribuan edit inkremental.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplanBenchmark {
+
+    @Param({"100", "300", "1000"})
+    int size;
+
+    @Param({"1", "2", "3"})
+    long seed;
+
+    private MazeWorkload maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = MazeWorkload.create("lpaReplan");
+        maze.setup(size, size, seed);
+        maze.verify();
+    }
+
+    @TearDown(Level.Trial)
+    public void verify() {
+        maze.verify();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        maze.prepare();
+    }
+
+    @Benchmark
+    public Object replan() {
+        return maze.run();
+    }
+}
@@ -0,0 +1,40 @@
+package mazebench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// BFS / DFS (MazeModel.solve), Dijkstra / A* (WeightedMazeModel.solveWeighted) dan solver lain dari start ke end
+// di peta terrain dengan loops (dead-end filling: perfect maze). Maze dibuat sekali per trial; setiap solve
+// mereset state solver sendiri. Hasil dicek terhadap solver referensi di setup (MazeWorkload.verify).
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"100", "300", "1000"})
+    int size;
+
+    @Param({"1", "2", "3"})
+    long seed;
+
+    @Param({"bfs", "bfsQueue", "dfs", "dijkstra", "astar", "junction", "alt", "hpa", "deadEndFill"})
+    String workload;
+
+    private MazeWorkload maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = MazeWorkload.create(workload);
+        maze.setup(size, size, seed);
+        maze.verify();
+    }
+
+    @Benchmark
+    public Object solve() {
+        return maze.run();
+    }
+}
@@ -0,0 +1,130 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// A* dengan heuristik ALT dari LandmarkIndex (diambil max dengan Manhattan, keduanya admissible).
+// Index dibangun sekali per versi maze (paralel di commonPool) lalu dipakai ulang untuk semua query,
+// jadi maze yang di-query berkali-kali hanya membayar preprocessing satu kali.
+public class AltSolver implements MazeSolver {
+
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    private final int landmarkCount;
+    private LandmarkIndex index;
+
+    private int capacity = -1;
+    private int[] dist, parent, stampSeen, stampDone;
+    private IndexedMinHeap heap;
+    private int stamp;
+    private final int[] offsets = new int[4];
+
+    public AltSolver() {
+        this(DEFAULT_LANDMARKS);
+    }
+
+    public AltSolver(int landmarkCount) {
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public String name() { return "A* (ALT landmarks)"; }
+
+    public LandmarkIndex indexFor(MazeModel model) {
+        if (index == null || !index.isCurrent(model)) {
+            index = LandmarkIndex.build(model, landmarkCount, ForkJoinPool.commonPool());
+        }
+        return index;
+    }
+
+    // Index yang masih cocok dengan isi maze sekarang tanpa membangun, atau null
+    public LandmarkIndex currentIndex(MazeModel model) {
+        return index != null && index.isCurrent(model) ? index : null;
+    }
+
+    // Pakai index yang sudah ada (mis. hasil LandmarkIndex.load)
+    public void setIndex(LandmarkIndex index) {
+        this.index = index;
+    }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        dist = new int[n];
+        parent = new int[n];
+        stampSeen = new int[n];
+        stampDone = new int[n];
+        heap = new IndexedMinHeap(n);
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        LandmarkIndex alt = indexFor(model);
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        ensureCapacity(n);
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stampSeen, 0);
+            Arrays.fill(stampDone, 0);
+            stamp = 1;
+        }
+        heap.clear();
+
+        int endRow = grid.row(end), endCol = grid.col(end);
+        int cols = grid.cols;
+        int[] offsets = this.offsets;
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        dist[start] = 0;
+        parent[start] = -1;
+        stampSeen[start] = stamp;
+        heap.pushOrDecrease(start, heuristic(alt, start, end, endRow, endCol, cols));
+
+        boolean found = false;
+        int visitedNodesCount = 0;
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            stampDone[current] = stamp;
+
+            if (current == end) {
+                found = true;
+                break;
+            }
+
+            visitedNodesCount++;
+            if (trace != null) trace.onExpand(current, heap.size());
+
+            int dc = dist[current];
+            int open = grid.openMask(current);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int next = current + offsets[d];
+                if (stampDone[next] == stamp) continue;
+
+                int newDist = dc + model.cost(next);
+                if (stampSeen[next] != stamp || newDist < dist[next]) {
+                    stampSeen[next] = stamp;
+                    dist[next] = newDist;
+                    parent[next] = current;
+                    heap.pushOrDecrease(next, newDist + heuristic(alt, next, end, endRow, endCol, cols));
+                }
+            }
+        }
+
+        int[] path = new int[0];
+        if (found) {
+            IntList list = new IntList();
+            for (int c = end; c >= 0; c = parent[c]) list.add(c);
+            list.reverse();
+            path = list.toArray();
+        }
+        return new SolveResult(name(), found, true, visitedNodesCount, n,
+                found ? dist[end] : -1, path, System.nanoTime() - t0);
+    }
+
+    private static int heuristic(LandmarkIndex alt, int cell, int end, int endRow, int endCol, int cols) {
+        int manhattan = Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+        return Math.max(manhattan, alt.lowerBound(cell, end));
+    }
+}
@@ -0,0 +1,40 @@
+import java.util.Random;
+
+// Recursive backtracker (DFS acak) versi iteratif dengan stack eksplisit,
+// jadi aman untuk maze besar tanpa StackOverflowError. Menghasilkan koridor panjang.
+public class BacktrackerGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Backtracker"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        IntList stack = new IntList();
+        int[] dirs = new int[4];
+
+        grid.setVisited(0, true);
+        stack.add(0);
+
+        while (!stack.isEmpty()) {
+            int current = stack.get(stack.size() - 1);
+
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.neighbor(current, d);
+                if (nb >= 0 && !grid.isVisited(nb)) dirs[count++] = d;
+            }
+
+            if (count == 0) {
+                stack.removeLast();
+                continue;
+            }
+
+            int dir = dirs[rand.nextInt(count)];
+            int next = grid.neighbor(current, dir);
+            grid.carve(current, dir);
+            grid.setVisited(next, true);
+            stack.add(next);
+            if (listener != null) listener.onGenerateStep(next, stack.size());
+        }
+    }
+}
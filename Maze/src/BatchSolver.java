@@ -0,0 +1,67 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Menjawab banyak query (start, end) terhadap satu maze read-only secara paralel.
+// Setiap task worker memakai instance solver sendiri (scratch state per task) dan mengambil chunk query
+// dari antrian bersama, jadi tidak ada state pencarian bersama dan grid model tidak pernah ditulis.
+// Solver hanya hidup selama task-nya, jadi scratch dilepas begitu batch selesai (tidak tertinggal di thread pool).
+public class BatchSolver {
+
+    // Jumlah chunk per worker, supaya query yang lama tidak membuat worker lain menganggur
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final MazeModel model;
+    private final Supplier<MazeSolver> solverFactory;
+    private final ExecutorService pool;
+    private final int workers;
+
+    public BatchSolver(MazeModel model, Supplier<MazeSolver> solverFactory, ExecutorService pool, int workers) {
+        this.model = model;
+        this.solverFactory = solverFactory;
+        this.pool = pool;
+        this.workers = Math.max(1, workers);
+    }
+
+    public List<SolveResult> solve(List<MazeModel.Query> queries) {
+        int n = queries.size();
+        SolveResult[] results = new SolveResult[n];
+        if (n == 0) return List.of();
+
+        // Satu solver per task worker; chunk berikutnya diambil dari nextChunk sampai habis
+        int chunks = Math.min(n, workers * CHUNKS_PER_WORKER);
+        int tasks = Math.min(workers, chunks);
+        AtomicInteger nextChunk = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            futures.add(pool.submit(() -> {
+                MazeSolver solver = solverFactory.get();
+                for (int k; (k = nextChunk.getAndIncrement()) < chunks; ) {
+                    int from = (int) ((long) n * k / chunks);
+                    int to = (int) ((long) n * (k + 1) / chunks);
+                    for (int i = from; i < to; i++) {
+                        MazeModel.Query q = queries.get(i);
+                        results[i] = solver.solve(model, q.start(), q.end(), null);
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> f : futures) f.get();
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch solve interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Batch solve failed", e.getCause());
+        }
+        return Arrays.asList(results);
+    }
+}
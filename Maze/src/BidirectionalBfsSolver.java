@@ -0,0 +1,111 @@
+// BFS dua arah: ekspansi bergantian dari start dan end (selalu frontier yang lebih kecil,
+// satu level penuh per giliran) dan berhenti saat kedua frontier bertemu.
+// Pada perfect maze jumlah sel yang dijelajah jauh lebih sedikit daripada BFS biasa.
+// Array state diberi "stamp" per query, jadi query berikutnya tidak perlu membersihkan O(n).
+public class BidirectionalBfsSolver implements MazeSolver {
+
+    private int capacity = -1;
+    private int[] stampF, stampB;     // == stamp jika sel sudah ditemukan dari sisi itu
+    private int[] depthF, depthB;
+    private byte[] dirF, dirB;        // arah dari sel ke parent-nya di sisi itu
+    private int[] queueF, queueB;
+    private int stamp;
+    private final int[] offsets = new int[4];
+
+    @Override
+    public String name() { return "Bidirectional BFS"; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        stampF = new int[n];
+        stampB = new int[n];
+        depthF = new int[n];
+        depthB = new int[n];
+        dirF = new byte[n];
+        dirB = new byte[n];
+        queueF = new int[n];
+        queueB = new int[n];
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        ensureCapacity(n);
+        if (++stamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(stampF, 0);
+            java.util.Arrays.fill(stampB, 0);
+            stamp = 1;
+        }
+
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        int headF = 0, tailF = 0, headB = 0, tailB = 0;
+        queueF[tailF++] = start;
+        stampF[start] = stamp;
+        depthF[start] = 0;
+        queueB[tailB++] = end;
+        stampB[end] = stamp;
+        depthB[end] = 0;
+
+        int nodesVisited = 0;
+        int meet = start == end ? start : -1;
+        int best = start == end ? 0 : Integer.MAX_VALUE;
+
+        while (meet < 0 && headF < tailF && headB < tailB) {
+            boolean forward = (tailF - headF) <= (tailB - headB);
+            int[] queue = forward ? queueF : queueB;
+            int[] seen = forward ? stampF : stampB, other = forward ? stampB : stampF;
+            int[] depth = forward ? depthF : depthB, otherDepth = forward ? depthB : depthF;
+            byte[] dir = forward ? dirF : dirB;
+            int head = forward ? headF : headB, tail = forward ? tailF : tailB;
+
+            // Ekspansi satu level penuh, ambil pertemuan dengan total jarak terkecil
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int current = queue[head++];
+                nodesVisited++;
+                if (trace != null) trace.onExpand(current, (tail - head) + (forward ? tailB - headB : tailF - headF));
+
+                int open = grid.openMask(current);
+                for (int d = 0; d < 4; d++) {
+                    if ((open & (1 << d)) == 0) continue;
+                    int next = current + offsets[d];
+                    if (seen[next] == stamp) continue;
+                    seen[next] = stamp;
+                    depth[next] = depth[current] + 1;
+                    dir[next] = (byte) MazeGrid.opposite(d);
+                    queue[tail++] = next;
+
+                    if (other[next] == stamp && depth[next] + otherDepth[next] < best) {
+                        best = depth[next] + otherDepth[next];
+                        meet = next;
+                    }
+                }
+            }
+            if (forward) { headF = head; tailF = tail; } else { headB = head; tailB = tail; }
+        }
+
+        int[] path = meet >= 0 ? buildPath(grid, start, end, meet) : new int[0];
+        return new SolveResult(name(), meet >= 0, false, nodesVisited, n,
+                meet >= 0 ? best : -1, path, System.nanoTime() - t0);
+    }
+
+    // start -> meet (ikuti dirF mundur lalu dibalik), lalu meet -> end (ikuti dirB)
+    private int[] buildPath(MazeGrid grid, int start, int end, int meet) {
+        IntList path = new IntList();
+        for (int c = meet; ; c = grid.neighbor(c, dirF[c])) {
+            path.add(c);
+            if (c == start) break;
+        }
+        path.reverse();
+        for (int c = meet; c != end; ) {
+            c = grid.neighbor(c, dirB[c]);
+            path.add(c);
+        }
+        return path.toArray();
+    }
+}
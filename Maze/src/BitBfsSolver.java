@@ -0,0 +1,363 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// BFS level-synchronous dengan visited berupa bitset (1 bit per sel) dan parent 1 byte arah per sel.
+// Setiap level dipilih salah satu arah ekspansi (direction-optimizing, Beamer dkk.):
+//  - top-down : frontier berupa daftar sel; setiap sel mengklaim tetangga yang belum visited.
+//               Frontier besar dibagi ke worker; klaim memakai OR atomik pada word visited.
+//  - bottom-up: frontier berupa bitset; per word (64 sel) dicari sel belum visited yang punya
+//               tetangga terbuka di frontier, 64 sel sekaligus dengan geser bit. Bitset "arah terbuka"
+//               per arah dibangun dari nibble dinding (dicache per versi model). Setiap worker hanya
+//               menulis word miliknya sendiri, jadi tidak perlu atomik.
+// Bottom-up dipilih jika biaya memindai word di rentang frontier lebih kecil dari biaya top-down
+// (kira-kira frontier * TOP_DOWN_WEIGHT > jumlah word). Path dibangun ulang dari byte arah parent.
+public class BitBfsSolver implements MazeSolver {
+
+    public enum Mode { AUTO, TOP_DOWN, BOTTOM_UP }
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    // Frontier di bawah ini diproses di thread pemanggil (overhead submit lebih mahal dari kerjanya)
+    static final int PARALLEL_FRONTIER = 4096;
+    // Perkiraan biaya top-down per sel frontier dibanding biaya bottom-up per word
+    static final int TOP_DOWN_WEIGHT = 8;
+
+    private final Mode mode;
+    private final ExecutorService pool;
+    private final int workers;
+
+    // Bitset arah terbuka: open[d] bit i = dari sel i bisa melangkah ke arah d (cache per versi model)
+    private MazeModel openModel;
+    private MazeGrid openGrid;
+    private int openVersion;
+    private final long[][] open = new long[4][];
+
+    private int capacity = -1;
+    private long[] visited, front, next;
+    private byte[] parentDir;
+    private int[] frontier;
+    private IntList[] found;
+    private int levelTopDown, levelBottomUp;
+
+    public BitBfsSolver() {
+        this(Mode.AUTO, ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism());
+    }
+
+    public BitBfsSolver(Mode mode, ExecutorService pool, int workers) {
+        this.mode = mode;
+        this.pool = pool;
+        this.workers = Math.max(1, workers);
+    }
+
+    @Override
+    public String name() { return "BFS (bitset)"; }
+
+    // Jumlah level per arah pada solve terakhir (statistik)
+    public int topDownLevels() { return levelTopDown; }
+    public int bottomUpLevels() { return levelBottomUp; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        int words = (n + 63) >>> 6;
+        visited = new long[words];
+        front = new long[words];
+        next = new long[words];
+        parentDir = new byte[n];
+        frontier = new int[64];
+        found = new IntList[workers];
+        for (int w = 0; w < workers; w++) found[w] = new IntList();
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size(), words = (n + 63) >>> 6;
+        ensureCapacity(n);
+        Arrays.fill(visited, 0);
+        if (mode != Mode.TOP_DOWN) ensureOpenBits(model, grid);
+        levelTopDown = levelBottomUp = 0;
+
+        visited[start >>> 6] |= 1L << start;
+        frontier[0] = start;
+        int size = 1;              // ukuran frontier (daftar jika top-down, jumlah bit jika bottom-up)
+        boolean dense = false;     // true: frontier ada di bitset 'front'
+        int lo = start, hi = start; // rentang sel frontier (untuk memilih arah & membatasi scan)
+        long expanded = 0;
+        boolean reached = start == end;
+
+        while (size > 0 && !reached) {
+            if (Thread.currentThread().isInterrupted()) throw new CancellationException("BFS cancelled");
+            // Rentang word yang mungkin berisi sel baru: frontier +- satu baris
+            int wordLo = Math.max(0, (lo - grid.cols) >> 6), wordHi = Math.min(words - 1, (hi + grid.cols) >> 6);
+            boolean bottomUp = mode == Mode.BOTTOM_UP
+                    || mode == Mode.AUTO && (long) size * TOP_DOWN_WEIGHT > wordHi - wordLo + 1;
+
+            if (bottomUp && !dense) {
+                for (int k = 0; k < size; k++) front[frontier[k] >>> 6] |= 1L << frontier[k];
+                dense = true;
+            } else if (!bottomUp && dense) {
+                size = toList(front, wordLo, wordHi);
+                dense = false;
+            }
+
+            if (trace != null) report(trace, dense, size, wordLo, wordHi);
+            expanded += size;
+
+            if (bottomUp) {
+                levelBottomUp++;
+                size = bottomUpLevel(grid, wordLo, wordHi);
+                // Word frontier lama dikosongkan, next menjadi frontier
+                Arrays.fill(front, wordLo, wordHi + 1, 0);
+                long[] t = front;
+                front = next;
+                next = t;
+                lo = Integer.MAX_VALUE;
+                hi = -1;
+                for (int w = wordLo; w <= wordHi; w++) {
+                    if (front[w] == 0) continue;
+                    lo = Math.min(lo, (w << 6) + Long.numberOfTrailingZeros(front[w]));
+                    hi = (w << 6) + 63 - Long.numberOfLeadingZeros(front[w]);
+                }
+            } else {
+                levelTopDown++;
+                size = topDownLevel(grid, size);
+                lo = Integer.MAX_VALUE;
+                hi = -1;
+                for (int k = 0; k < size; k++) {
+                    lo = Math.min(lo, frontier[k]);
+                    hi = Math.max(hi, frontier[k]);
+                }
+            }
+            reached = (visited[end >>> 6] & (1L << end)) != 0;
+        }
+        if (dense) Arrays.fill(front, 0);
+
+        int[] path = new int[0];
+        if (reached) {
+            IntList list = new IntList();
+            for (int c = end; ; c += grid.offset(parentDir[c])) {
+                list.add(c);
+                if (c == start) break;
+            }
+            list.reverse();
+            path = list.toArray();
+            if (trace != null) trace.onExpand(end, 0);
+            expanded++;
+        }
+        return new SolveResult(name(), reached, false, (int) Math.min(expanded, Integer.MAX_VALUE), n,
+                reached ? path.length - 1 : -1, path, System.nanoTime() - t0);
+    }
+
+    // Laporkan sel frontier level ini ke trace (di thread pemanggil, urut level seperti BFS biasa)
+    private void report(MazeListener trace, boolean dense, int size, int wordLo, int wordHi) {
+        if (!dense) {
+            for (int k = 0; k < size; k++) trace.onExpand(frontier[k], size);
+            return;
+        }
+        for (int w = wordLo; w <= wordHi; w++) {
+            for (long bits = front[w]; bits != 0; bits &= bits - 1) {
+                trace.onExpand((w << 6) + Long.numberOfTrailingZeros(bits), size);
+            }
+        }
+    }
+
+    // Bitset -> daftar frontier (urut index sel)
+    private int toList(long[] bits, int wordLo, int wordHi) {
+        int size = 0;
+        for (int w = wordLo; w <= wordHi; w++) {
+            long word = bits[w];
+            if (word == 0) continue;
+            if (size + 64 > frontier.length) frontier = Arrays.copyOf(frontier, Math.max(2 * frontier.length, size + 64));
+            for (; word != 0; word &= word - 1) frontier[size++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            bits[w] = 0;
+        }
+        return size;
+    }
+
+    // --- Top-down ---
+
+    private int topDownLevel(MazeGrid grid, int size) {
+        if (size < PARALLEL_FRONTIER || workers == 1) {
+            IntList out = found[0];
+            out.clear();
+            expandTopDown(grid, 0, size, out, false);
+            return gather(1);
+        }
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            int from = (int) ((long) size * w / workers), to = (int) ((long) size * (w + 1) / workers);
+            IntList out = found[w];
+            tasks.add(() -> {
+                out.clear();
+                expandTopDown(grid, from, to, out, true);
+                return 0;
+            });
+        }
+        invokeAll(tasks);
+        return gather(workers);
+    }
+
+    private void expandTopDown(MazeGrid grid, int from, int to, IntList out, boolean atomic) {
+        for (int k = from; k < to; k++) {
+            int x = frontier[k];
+            int openMask = grid.openMask(x);
+            for (int d = 0; d < 4; d++) {
+                if ((openMask & (1 << d)) == 0) continue;
+                int y = x + grid.offset(d);
+                int w = y >>> 6;
+                long bit = 1L << y;
+                if ((visited[w] & bit) != 0) continue;
+                if (atomic) {
+                    if (((long) LONGS.getAndBitwiseOr(visited, w, bit) & bit) != 0) continue; // diklaim worker lain
+                } else {
+                    visited[w] |= bit;
+                }
+                parentDir[y] = (byte) MazeGrid.opposite(d);
+                out.add(y);
+            }
+        }
+    }
+
+    // Gabungkan hasil worker menjadi frontier berikutnya
+    private int gather(int parts) {
+        int size = 0;
+        for (int w = 0; w < parts; w++) size += found[w].size();
+        if (size > frontier.length) frontier = new int[Math.max(size, 2 * frontier.length)];
+        int k = 0;
+        for (int w = 0; w < parts; w++) {
+            IntList list = found[w];
+            for (int i = 0; i < list.size(); i++) frontier[k++] = list.get(i);
+        }
+        return size;
+    }
+
+    // --- Bottom-up ---
+
+    private int bottomUpLevel(MazeGrid grid, int wordLo, int wordHi) {
+        int span = wordHi - wordLo + 1;
+        if (span < PARALLEL_FRONTIER / 8 || workers == 1) return expandBottomUp(grid.cols, wordLo, wordHi + 1);
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            int from = wordLo + (int) ((long) span * w / workers), to = wordLo + (int) ((long) span * (w + 1) / workers);
+            tasks.add(() -> expandBottomUp(grid.cols, from, to));
+        }
+        return (int) invokeAll(tasks);
+    }
+
+    // Word [from, to): sel belum visited yang bisa dicapai dari sel frontier tetangganya. Celah dicek
+    // dari sisi sel frontier (sama seperti top-down): tetangga kiri harus terbuka ke kanan, dst.
+    // Bit tetangga kiri / kanan = geser 1 bit, atas / bawah = baca 64 bit mulai dari index -+ cols.
+    private int expandBottomUp(int cols, int from, int to) {
+        long[] f = front, openUp = open[MazeGrid.TOP], openRight = open[MazeGrid.RIGHT];
+        long[] openDown = open[MazeGrid.BOTTOM], openLeft = open[MazeGrid.LEFT];
+        int last = f.length - 1, count = 0;
+        for (int w = from; w < to; w++) {
+            long candidates = ~visited[w];
+            if (candidates == 0) {
+                next[w] = 0;
+                continue;
+            }
+            long base = (long) w << 6;
+            long here = f[w];
+            long fromLeft = ((here & openRight[w]) << 1) | (w > 0 ? (f[w - 1] & openRight[w - 1]) >>> 63 : 0);
+            long fromRight = ((here & openLeft[w]) >>> 1) | (w < last ? (f[w + 1] & openLeft[w + 1]) << 63 : 0);
+            long fromUp = bitsAt(f, base - cols) & bitsAt(openDown, base - cols);
+            long fromDown = bitsAt(f, base + cols) & bitsAt(openUp, base + cols);
+            long hit = (fromLeft | fromRight | fromUp | fromDown) & candidates;
+            next[w] = hit;
+            if (hit == 0) continue;
+            visited[w] |= hit;
+            count += Long.bitCount(hit);
+            for (long bits = hit; bits != 0; bits &= bits - 1) {
+                int b = Long.numberOfTrailingZeros(bits);
+                long bit = 1L << b;
+                int dir = (fromUp & bit) != 0 ? MazeGrid.TOP
+                        : (fromRight & bit) != 0 ? MazeGrid.RIGHT
+                        : (fromDown & bit) != 0 ? MazeGrid.BOTTOM : MazeGrid.LEFT;
+                parentDir[(w << 6) + b] = (byte) dir;
+            }
+        }
+        return count;
+    }
+
+    // 64 bit bitset mulai dari bit 'offset' (boleh negatif / lewat ujung, bagian luar dibaca 0)
+    private static long bitsAt(long[] a, long offset) {
+        if (offset <= -64 || offset >= ((long) a.length << 6)) return 0;
+        int w = (int) Math.floorDiv(offset, 64L), s = (int) (offset & 63);
+        long lo = w >= 0 ? a[w] : 0;
+        if (s == 0) return lo;
+        long hi = w + 1 < a.length ? a[w + 1] : 0;
+        return (lo >>> s) | (hi << (64 - s));
+    }
+
+    // --- Bitset arah terbuka ---
+
+    private void ensureOpenBits(MazeModel model, MazeGrid grid) {
+        if (openModel == model && openGrid == grid && openVersion == model.getVersion()) return;
+        int n = grid.size(), words = (n + 63) >>> 6;
+        for (int d = 0; d < 4; d++) open[d] = new long[words];
+        LongStore walls = grid.wallStore();
+        long wallWords = walls.size();
+        for (int w = 0; w < words; w++) {
+            for (int q = 0; q < 4; q++) {
+                long ww = ((long) w << 2) + q;
+                long nibbles = ww < wallWords ? walls.get(ww) : -1L;
+                for (int d = 0; d < 4; d++) open[d][w] |= gatherNibbleBit(~nibbles, d) << (q << 4);
+            }
+        }
+        // Tepi grid & sel di luar n selalu tertutup (sama seperti MazeGrid.openMask)
+        for (int c = 0; c < grid.cols; c++) {
+            clear(open[MazeGrid.TOP], c);
+            clear(open[MazeGrid.BOTTOM], n - grid.cols + c);
+        }
+        for (int r = 0; r < grid.rows; r++) {
+            clear(open[MazeGrid.LEFT], r * grid.cols);
+            clear(open[MazeGrid.RIGHT], r * grid.cols + grid.cols - 1);
+        }
+        if ((n & 63) != 0) {
+            long valid = (1L << n) - 1;
+            for (int d = 0; d < 4; d++) open[d][words - 1] &= valid;
+        }
+        openModel = model;
+        openGrid = grid;
+        openVersion = model.getVersion();
+    }
+
+    // Ambil bit ke-d dari 16 nibble dalam satu long, rapatkan menjadi 16 bit
+    static long gatherNibbleBit(long nibbles, int d) {
+        long x = (nibbles >>> d) & 0x1111111111111111L;
+        x = (x | (x >>> 3)) & 0x0303030303030303L;
+        x = (x | (x >>> 6)) & 0x000F000F000F000FL;
+        x = (x | (x >>> 12)) & 0x000000FF000000FFL;
+        x = (x | (x >>> 24)) & 0xFFFFL;
+        return x;
+    }
+
+    private static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    // Jalankan task dan jumlahkan hasilnya; interrupt (Stop di GUI) menjadi CancellationException
+    private long invokeAll(List<Callable<Integer>> tasks) {
+        try {
+            long sum = 0;
+            for (Future<Integer> f : pool.invokeAll(tasks)) sum += f.get();
+            return sum;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("BFS cancelled");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("BFS failed", e.getCause());
+        }
+    }
+}
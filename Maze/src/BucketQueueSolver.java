@@ -0,0 +1,134 @@
+import java.util.Arrays;
+
+// Dijkstra / A* dengan bucket queue (algoritma Dial) untuk biaya terrain integer kecil.
+// Karena setiap edge berbiaya 1..maxCost, semua key di antrian selalu berada di rentang
+// [kMin, kMin + maxCost] (A*: + 1 karena heuristik Manhattan berubah paling banyak 1 per langkah),
+// jadi cukup maxCost + 2 bucket melingkar. Setiap bucket adalah linked list intrusif
+// (int[] next / prev per sel), sehingga push, decrease-key dan pop semuanya O(1) tanpa alokasi.
+// Untuk rentang biaya yang besar (ribuan ke atas) IndexedDijkstraSolver tetap lebih cocok.
+public class BucketQueueSolver implements MazeSolver {
+
+    private final boolean useAStar;
+
+    private int capacity = -1;
+    private int[] dist, parent, key, next, prev, stampSeen, stampDone;
+    private int[] head = new int[0];
+    private int stamp;
+    private final int[] offsets = new int[4];
+
+    public BucketQueueSolver(boolean useAStar) {
+        this.useAStar = useAStar;
+    }
+
+    @Override
+    public String name() { return useAStar ? "A* (Dial buckets)" : "Dijkstra (Dial buckets)"; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        dist = new int[n];
+        parent = new int[n];
+        key = new int[n];
+        next = new int[n];
+        prev = new int[n];
+        stampSeen = new int[n];
+        stampDone = new int[n];
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        ensureCapacity(n);
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stampSeen, 0);
+            Arrays.fill(stampDone, 0);
+            stamp = 1;
+        }
+
+        int buckets = model.maxCost() + (useAStar ? 2 : 1);
+        if (head.length != buckets) head = new int[buckets];
+        Arrays.fill(head, -1);
+
+        int endRow = grid.row(end), endCol = grid.col(end), cols = grid.cols;
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        dist[start] = 0;
+        parent[start] = -1;
+        stampSeen[start] = stamp;
+        int k = useAStar ? manhattan(start, endRow, endCol, cols) : 0;
+        link(start, k, buckets);
+        int queued = 1;
+
+        boolean found = false;
+        int visitedNodesCount = 0;
+
+        while (queued > 0) {
+            // Maju ke bucket berikutnya yang tidak kosong (paling banyak 'buckets' langkah)
+            while (head[k % buckets] < 0) k++;
+            int current = head[k % buckets];
+            unlink(current, buckets);
+            queued--;
+            stampDone[current] = stamp;
+
+            if (current == end) {
+                found = true;
+                break;
+            }
+
+            visitedNodesCount++;
+            if (trace != null) trace.onExpand(current, queued);
+
+            int dc = dist[current];
+            int open = grid.openMask(current);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int nb = current + offsets[d];
+                if (stampDone[nb] == stamp) continue;
+
+                int newDist = dc + model.cost(nb);
+                boolean seen = stampSeen[nb] == stamp;
+                if (!seen || newDist < dist[nb]) {
+                    if (seen) unlink(nb, buckets);
+                    else queued++;
+                    stampSeen[nb] = stamp;
+                    dist[nb] = newDist;
+                    parent[nb] = current;
+                    link(nb, useAStar ? newDist + manhattan(nb, endRow, endCol, cols) : newDist, buckets);
+                }
+            }
+        }
+
+        int[] path = new int[0];
+        if (found) {
+            IntList list = new IntList();
+            for (int c = end; c >= 0; c = parent[c]) list.add(c);
+            list.reverse();
+            path = list.toArray();
+        }
+        return new SolveResult(name(), found, true, visitedNodesCount, n,
+                found ? dist[end] : -1, path, System.nanoTime() - t0);
+    }
+
+    private void link(int cell, int k, int buckets) {
+        int b = k % buckets;
+        key[cell] = k;
+        prev[cell] = -1;
+        next[cell] = head[b];
+        if (head[b] >= 0) prev[head[b]] = cell;
+        head[b] = cell;
+    }
+
+    private void unlink(int cell, int buckets) {
+        int p = prev[cell], nx = next[cell];
+        if (p >= 0) next[p] = nx;
+        else head[key[cell] % buckets] = nx;
+        if (nx >= 0) prev[nx] = p;
+    }
+
+    private static int manhattan(int cell, int endRow, int endCol, int cols) {
+        return Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+    }
+}
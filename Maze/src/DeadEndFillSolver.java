@@ -0,0 +1,239 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Dead-end filling: sel buntu (paling banyak satu tetangga terbuka yang belum diisi) diisi berulang,
+// sampai yang tersisa hanya koridor solusi. Pada perfect maze (Prim) sisa koridor = path start -> end.
+// Kerjanya lokal, jadi grid dibagi tile dan setiap tile diisi paralel: rantai buntu diikuti di dalam
+// tile, dan berhenti di batas tile dengan menitipkan sel tetangga ke tile sebelah untuk pass berikutnya.
+// Setiap tile hanya menulis sel miliknya sendiri (byte, tanpa lock). Membaca tetangga di tile lain yang
+// sedang diisi hanya bisa terlambat (derajat terlihat lebih besar), jadi sel solusi tidak pernah terisi.
+// Statistik per pass (tile aktif, sel terisi, waktu) dikirim ke trace.onStats.
+public class DeadEndFillSolver implements MazeSolver {
+
+    // Statistik satu pass
+    public record Pass(int tiles, int filled, long nanos) {}
+
+    // Baris pass di passReport: sebanyak ini di awal dan di akhir, sisanya diringkas
+    private static final int REPORT_PASSES = 3;
+
+    private static final byte LIVE = 0, FILLED = 1, ROUTE = 2; // ROUTE + d: dilalui BFS akhir, parent di arah d
+
+    private final int tileSize;
+    private final ExecutorService pool;
+    private final int workers;
+
+    private MazeGrid grid;
+    private int start, end, tileCols;
+    private byte[] state;
+    private final List<Pass> passes = new ArrayList<>();
+
+    public DeadEndFillSolver() {
+        this(64, ForkJoinPool.commonPool(), ForkJoinPool.commonPool().getParallelism());
+    }
+
+    public DeadEndFillSolver(int tileSize, ExecutorService pool, int workers) {
+        if (tileSize < 2) throw new IllegalArgumentException("Tile size too small: " + tileSize);
+        this.tileSize = tileSize;
+        this.pool = pool;
+        this.workers = Math.max(1, workers);
+    }
+
+    @Override
+    public String name() { return "Dead-end filling"; }
+
+    // Pass pada solve terakhir (urut)
+    public List<Pass> passes() { return passes; }
+
+    // Tabel pass untuk panel Statistics: total, lalu beberapa pass pertama & terakhir (maze besar bisa ribuan pass)
+    public String passReport() {
+        StringBuilder sb = new StringBuilder();
+        long filled = 0, nanos = 0;
+        for (Pass p : passes) {
+            filled += p.filled;
+            nanos += p.nanos;
+        }
+        sb.append(String.format(Locale.ROOT, "Passes: %d (%,d filled, %.1f ms)%n", passes.size(), filled, nanos / 1e6));
+        int size = passes.size();
+        if (size <= 2 * REPORT_PASSES + 1) {
+            for (int i = 0; i < size; i++) sb.append(line(i)).append('\n');
+            return sb.toString();
+        }
+        for (int i = 0; i < REPORT_PASSES; i++) sb.append(line(i)).append('\n');
+        sb.append(String.format(Locale.ROOT, "... (%,d passes)%n", size - 2 * REPORT_PASSES));
+        for (int i = size - REPORT_PASSES; i < size; i++) sb.append(line(i)).append('\n');
+        return sb.toString();
+    }
+
+    private String line(int i) {
+        Pass p = passes.get(i);
+        return String.format(Locale.ROOT, "#%d: %,d filled, %,d tiles, %.1f ms", i + 1, p.filled, p.tiles, p.nanos / 1e6);
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        grid = model.getGrid();
+        this.start = start;
+        this.end = end;
+        int n = grid.size();
+        if (state == null || state.length != n) state = new byte[n];
+        else Arrays.fill(state, LIVE);
+        passes.clear();
+        tileCols = (grid.cols + tileSize - 1) / tileSize;
+        int tiles = tileCols * ((grid.rows + tileSize - 1) / tileSize);
+
+        // Pass pertama memindai semua tile; pass berikutnya hanya sel titipan dari tile tetangga
+        IntList[] inbox = new IntList[tiles];
+        IntList active = new IntList(tiles);
+        for (int t = 0; t < tiles; t++) active.add(t);
+        boolean scanAll = true;
+        long filled = 0;
+        while (!active.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) throw new CancellationException("Dead-end filling cancelled");
+            long p0 = System.nanoTime();
+            int chunks = Math.min(active.size(), workers == 1 ? 1 : workers * 4);
+            IntList[] outbox = new IntList[chunks], fills = new IntList[chunks];
+            List<Callable<Integer>> tasks = new ArrayList<>(chunks);
+            for (int k = 0; k < chunks; k++) {
+                int from = (int) ((long) active.size() * k / chunks), to = (int) ((long) active.size() * (k + 1) / chunks);
+                IntList out = outbox[k] = new IntList(), fill = fills[k] = trace != null ? new IntList() : null;
+                boolean all = scanAll;
+                tasks.add(() -> {
+                    int count = 0;
+                    for (int i = from; i < to; i++) {
+                        int t = active.get(i);
+                        count += all ? scanTile(t, out, fill) : drainInbox(t, inbox[t], out, fill);
+                    }
+                    return count;
+                });
+            }
+            int count = (int) invokeAll(tasks);
+            filled += count;
+            passes.add(new Pass(active.size(), count, System.nanoTime() - p0));
+            if (trace != null) {
+                for (IntList fill : fills) {
+                    for (int i = 0; i < fill.size(); i++) trace.onExpand(fill.get(i), 0);
+                }
+                trace.onStats("Running " + name() + "...\n" + line(passes.size() - 1));
+            }
+
+            // Titipan dikelompokkan per tile tujuan (di thread pemanggil, urut chunk -> deterministik)
+            scanAll = false;
+            active.clear();
+            for (IntList out : outbox) {
+                for (int i = 0; i < out.size(); i++) {
+                    int cell = out.get(i), t = tileOf(cell);
+                    if (inbox[t] == null) inbox[t] = new IntList();
+                    if (inbox[t].isEmpty()) active.add(t);
+                    inbox[t].add(cell);
+                }
+            }
+        }
+
+        int[] path = route();
+        long visited = filled + path.length;
+        return new SolveResult(name(), path.length > 0, false, (int) Math.min(visited, Integer.MAX_VALUE), n,
+                path.length > 0 ? path.length - 1 : -1, path, System.nanoTime() - t0);
+    }
+
+    private int tileOf(int cell) {
+        return (grid.row(cell) / tileSize) * tileCols + grid.col(cell) / tileSize;
+    }
+
+    private int scanTile(int t, IntList out, IntList fill) {
+        int r0 = (t / tileCols) * tileSize, c0 = (t % tileCols) * tileSize;
+        int r1 = Math.min(grid.rows, r0 + tileSize), c1 = Math.min(grid.cols, c0 + tileSize);
+        int count = 0;
+        for (int r = r0; r < r1; r++) {
+            for (int c = c0; c < c1; c++) count += fillFrom(grid.index(r, c), t, out, fill);
+        }
+        return count;
+    }
+
+    private int drainInbox(int t, IntList in, IntList out, IntList fill) {
+        int count = 0;
+        for (int i = 0; i < in.size(); i++) count += fillFrom(in.get(i), t, out, fill);
+        in.clear();
+        return count;
+    }
+
+    // Isi x jika buntu, lalu ikuti rantai ke satu-satunya tetangga hidup selama masih di tile t
+    private int fillFrom(int x, int t, IntList out, IntList fill) {
+        int count = 0;
+        while (state[x] == LIVE && x != start && x != end) {
+            int open = grid.openMask(x), degree = 0, live = -1;
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int y = x + grid.offset(d);
+                if (state[y] == LIVE) {
+                    degree++;
+                    live = y;
+                }
+            }
+            if (degree > 1) break;
+            state[x] = FILLED;
+            count++;
+            if (fill != null) fill.add(x);
+            if (live < 0) break;
+            if (tileOf(live) != t) {
+                out.add(live);
+                break;
+            }
+            x = live;
+        }
+        return count;
+    }
+
+    // BFS di sel yang tersisa (pada perfect maze hanya koridor solusi), parent disimpan di state
+    private int[] route() {
+        IntList queue = new IntList();
+        queue.add(start);
+        state[start] = ROUTE + 4;
+        boolean found = start == end;
+        for (int i = 0; i < queue.size() && !found; i++) {
+            int x = queue.get(i);
+            int open = grid.openMask(x);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int y = x + grid.offset(d);
+                if (state[y] != LIVE) continue;
+                state[y] = (byte) (ROUTE + MazeGrid.opposite(d));
+                if (y == end) found = true;
+                queue.add(y);
+            }
+        }
+        if (!found) return new int[0];
+        IntList path = new IntList();
+        for (int c = end; ; c += grid.offset(state[c] - ROUTE)) {
+            path.add(c);
+            if (c == start) break;
+        }
+        path.reverse();
+        return path.toArray();
+    }
+
+    // Satu chunk langsung di thread pemanggil; interrupt (Stop di GUI) menjadi CancellationException
+    private long invokeAll(List<Callable<Integer>> tasks) {
+        try {
+            long sum = 0;
+            if (tasks.size() == 1) return tasks.get(0).call();
+            for (Future<Integer> f : pool.invokeAll(tasks)) sum += f.get();
+            return sum;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Dead-end filling cancelled");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dead-end filling failed", e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException("Dead-end filling failed", e);
+        }
+    }
+}
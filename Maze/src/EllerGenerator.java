@@ -0,0 +1,97 @@
+import java.util.Arrays;
+import java.util.Random;
+
+// Eller: generator baris per baris yang hanya menyimpan state set untuk satu baris.
+// Setiap baris yang selesai langsung dikirim ke RowSink, jadi memori O(cols) berapapun tingginya.
+//  1. Gabungkan sel bertetangga yang beda set secara acak (buka dinding kanan)
+//  2. Setiap set minimal punya satu bukaan ke bawah
+//  3. Sel baris berikutnya yang tidak terbuka dari atas mendapat set baru
+// Baris terakhir menggabungkan semua set yang tersisa supaya hasilnya tetap perfect maze.
+public class EllerGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Eller"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        RowSink toGrid = RowSink.toGrid(grid);
+        stream(grid.cols, grid.rows, rand, (row, walls) -> {
+            toGrid.acceptRow(row, walls);
+            if (listener != null) listener.onGenerateStep(grid.index((int) row, walls.length - 1));
+        });
+    }
+
+    // Generate maze cols x rows dan kirim setiap baris ke sink. rows boleh sangat besar (long).
+    public void stream(int cols, long rows, Random rand, RowSink sink) {
+        if (cols <= 0 || rows <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+
+        int[] set = new int[cols];        // label set per sel, selalu di [0, cols)
+        int[] parent = new int[cols];     // union-find atas label di baris ini
+        int[] members = new int[cols];    // jumlah sel per root yang belum diproses
+        boolean[] hasDown = new boolean[cols];
+        boolean[] openAbove = new boolean[cols];
+        boolean[] labelUsed = new boolean[cols];
+        byte[] walls = new byte[cols];
+
+        for (int c = 0; c < cols; c++) set[c] = c;
+
+        for (long r = 0; r < rows; r++) {
+            boolean lastRow = r == rows - 1;
+
+            for (int c = 0; c < cols; c++) {
+                parent[c] = c;
+                walls[c] = (byte) (openAbove[c] ? MazeGrid.ALL_WALLS & ~(1 << MazeGrid.TOP) : MazeGrid.ALL_WALLS);
+            }
+
+            // 1. Gabung horizontal
+            for (int c = 0; c < cols - 1; c++) {
+                int a = find(parent, set[c]), b = find(parent, set[c + 1]);
+                if (a != b && (lastRow || rand.nextBoolean())) {
+                    parent[b] = a;
+                    walls[c] &= ~(1 << MazeGrid.RIGHT);
+                    walls[c + 1] &= ~(1 << MazeGrid.LEFT);
+                }
+            }
+            for (int c = 0; c < cols; c++) set[c] = find(parent, set[c]);
+
+            // 2. Bukaan vertikal (minimal satu per set)
+            if (!lastRow) {
+                Arrays.fill(members, 0);
+                Arrays.fill(hasDown, false);
+                Arrays.fill(labelUsed, false);
+                for (int c = 0; c < cols; c++) members[set[c]]++;
+
+                for (int c = 0; c < cols; c++) {
+                    int s = set[c];
+                    boolean lastOfSet = --members[s] == 0;
+                    boolean down = rand.nextBoolean() || (lastOfSet && !hasDown[s]);
+                    openAbove[c] = down;
+                    if (down) {
+                        hasDown[s] = true;
+                        labelUsed[s] = true;
+                        walls[c] &= ~(1 << MazeGrid.BOTTOM);
+                    }
+                }
+            }
+
+            sink.acceptRow(r, walls);
+            if (lastRow) break;
+
+            // 3. Sel tanpa bukaan dari atas mendapat label yang belum dipakai
+            int free = 0;
+            for (int c = 0; c < cols; c++) {
+                if (openAbove[c]) continue;
+                while (labelUsed[free]) free++;
+                set[c] = free++;
+            }
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+}
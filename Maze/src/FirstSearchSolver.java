@@ -0,0 +1,87 @@
+import java.util.Arrays;
+
+// BFS / DFS sebagai engine MazeSolver (DFS dipakai MazeModel.solve(false)). Semua state (parent, stamp,
+// antrian / stack) milik solver sendiri dan grid hanya dibaca.
+// Satu int[] dipakai sebagai antrian (BFS, ambil dari depan) atau stack (DFS, ambil dari belakang);
+// setiap sel masuk paling banyak sekali, jadi ukuran n cukup.
+public class FirstSearchSolver implements MazeSolver {
+
+    private final boolean useBFS;
+
+    private int capacity = -1;
+    private int[] parent, stampSeen, list;
+    private int stamp;
+    private final int[] offsets = new int[4];
+
+    public FirstSearchSolver(boolean useBFS) {
+        this.useBFS = useBFS;
+    }
+
+    @Override
+    public String name() { return useBFS ? "BFS" : "DFS"; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        parent = new int[n];
+        stampSeen = new int[n];
+        list = new int[n];
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        ensureCapacity(n);
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stampSeen, 0);
+            stamp = 1;
+        }
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        int head = 0, tail = 0;
+        list[tail++] = start;
+        stampSeen[start] = stamp;
+        parent[start] = -1;
+        boolean found = false;
+        int nodesVisited = 0;
+
+        while (head < tail) {
+            int current = useBFS ? list[head++] : list[--tail];
+            nodesVisited++;
+            if (trace != null) trace.onExpand(current, tail - head);
+
+            if (current == end) {
+                found = true;
+                break;
+            }
+
+            int open = grid.openMask(current);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int next = current + offsets[d];
+                if (stampSeen[next] == stamp) continue;
+                stampSeen[next] = stamp;
+                parent[next] = current;
+                list[tail++] = next;
+            }
+        }
+
+        // Biaya path dihitung dengan biaya terrain (sama seperti Dijkstra), supaya bisa dibandingkan
+        int[] path = new int[0];
+        long cost = -1;
+        if (found) {
+            IntList p = new IntList();
+            cost = 0;
+            for (int c = end; c >= 0; c = parent[c]) {
+                p.add(c);
+                if (c != start) cost += model.cost(c);
+            }
+            p.reverse();
+            path = p.toArray();
+        }
+        return new SolveResult(name(), found, model.maxCost() > 1, nodesVisited, n, cost, path, System.nanoTime() - t0);
+    }
+}
@@ -0,0 +1,222 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Flow field: jarak (biaya) dari SETIAP sel ke satu target, dihitung sekali untuk banyak agen.
+// Dijkstra terbalik dari target dengan bucket per jarak (Dial): semua sel di bucket d sudah final
+// karena biaya >= 1, jadi satu bucket = satu gelombang yang bisa diproses paralel. Setiap worker
+// merelaksasi potongan gelombang dengan CAS-min di dist dan menaruh sel baru di bucket miliknya
+// sendiri (tanpa lock); entry basi dilewati saat gelombangnya tiba. Biaya masuk ke sel, jadi
+// relaksasi x -> y (langkah sebenarnya y -> x) menambah cost(x).
+// Setelah itu setiap sel mendapat satu byte arah ke tetangga berikutnya di jalur termurah, sehingga
+// agen mana pun cukup membaca dir[sel] per langkah (O(1), tanpa pencarian).
+public class FlowField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final byte NONE = -1;
+    // Gelombang kecil diproses di thread pemanggil (overhead submit lebih mahal dari kerjanya)
+    static final int PARALLEL_FRONTIER = 512;
+
+    private final MazeModel model;
+    private final MazeGrid grid;
+    private final int version, target;
+    private final AtomicIntegerArray dist;
+    private final byte[] dir;
+    private int levels, maxDistance;
+    private long reached, elapsedNanos;
+
+    private FlowField(MazeModel model, int target) {
+        this.model = model;
+        this.grid = model.getGrid();
+        this.version = model.getVersion();
+        this.target = target;
+        int n = grid.size();
+        dist = new AtomicIntegerArray(n);
+        dir = new byte[n];
+    }
+
+    public boolean isCurrent(MazeModel m) {
+        return m == model && m.getGrid() == grid && version == m.getVersion();
+    }
+
+    public int target() { return target; }
+    public int distance(int cell) { return dist.get(cell); }
+    public int direction(int cell) { return dir[cell]; }
+    public long reachedCells() { return reached; }
+    public int levels() { return levels; }
+    public int maxDistance() { return maxDistance; }
+    public long elapsedNanos() { return elapsedNanos; }
+
+    // Sel berikutnya menuju target, atau -1 di target / sel yang tidak terhubung
+    public int next(int cell) {
+        int d = dir[cell];
+        return d < 0 ? -1 : cell + grid.offset(d);
+    }
+
+    // Jalur lengkap dari cell ke target (kosong jika tidak terhubung)
+    public int[] pathFrom(int cell) {
+        if (dist.get(cell) == UNREACHABLE) return new int[0];
+        IntList path = new IntList();
+        for (int c = cell; c >= 0; c = next(c)) path.add(c);
+        return path.toArray();
+    }
+
+    public String summary() {
+        return String.format("""
+            Algorithm: Flow field
+            ----------------
+            Status: Finished
+            Reached Cells: %,d
+            Wavefronts: %,d
+            Max Cost: %d
+            Time: %.1f ms
+            """, reached, levels, maxDistance, elapsedNanos / 1e6);
+    }
+
+    // metrics boleh null; jika ada, setiap gelombang dihitung sebagai ekspansi (dan titik batal)
+    public static FlowField compute(MazeModel model, int target, ExecutorService pool, int workers, RunMetrics metrics) {
+        long t0 = System.nanoTime();
+        FlowField f = new FlowField(model, target);
+        f.propagate(pool, Math.max(1, workers), metrics);
+        f.computeDirections(pool, Math.max(1, workers));
+        f.elapsedNanos = System.nanoTime() - t0;
+        return f;
+    }
+
+    // --- Gelombang jarak ---
+
+    private void propagate(ExecutorService pool, int workers, RunMetrics metrics) {
+        int n = grid.size();
+        for (int i = 0; i < n; i++) dist.set(i, UNREACHABLE);
+        int buckets = model.maxCost() + 1;
+        // bucket[w][d % buckets] = sel yang dimasukkan worker w dengan jarak d
+        IntList[][] bucket = new IntList[workers][buckets];
+        for (IntList[] row : bucket) for (int b = 0; b < buckets; b++) row[b] = new IntList();
+
+        dist.set(target, 0);
+        bucket[0][0].add(target);
+        int[] frontier = new int[64];
+        List<Callable<Integer>> tasks = new ArrayList<>(workers);
+        for (int d = 0; ; d++) {
+            int b = d % buckets, size = 0;
+            for (IntList[] row : bucket) {
+                IntList list = row[b];
+                if (size + list.size() > frontier.length) frontier = Arrays.copyOf(frontier, Math.max(2 * frontier.length, size + list.size()));
+                for (int k = 0; k < list.size(); k++) frontier[size++] = list.get(k);
+                list.clear();
+            }
+            if (size == 0) {
+                if (pending(bucket)) continue;
+                break;
+            }
+
+            long settled;
+            if (size < PARALLEL_FRONTIER || workers == 1) {
+                settled = relax(frontier, 0, size, d, bucket[0], buckets);
+            } else {
+                tasks.clear();
+                int[] wave = frontier;
+                int level = d, total = size;
+                for (int w = 0; w < workers; w++) {
+                    int from = (int) ((long) total * w / workers), to = (int) ((long) total * (w + 1) / workers);
+                    IntList[] own = bucket[w];
+                    tasks.add(() -> relax(wave, from, to, level, own, buckets));
+                }
+                settled = invokeAll(pool, tasks);
+            }
+            reached += settled;
+            levels++;
+            maxDistance = d;
+            if (metrics != null) metrics.expandAll((int) settled, size);
+        }
+    }
+
+    private static boolean pending(IntList[][] bucket) {
+        for (IntList[] row : bucket) for (IntList list : row) if (!list.isEmpty()) return true;
+        return false;
+    }
+
+    // Relaksasi frontier[from, to) pada jarak d; kembalikan jumlah sel yang benar-benar final di gelombang ini
+    private int relax(int[] frontier, int from, int to, int d, IntList[] own, int buckets) {
+        int settled = 0;
+        for (int k = from; k < to; k++) {
+            int x = frontier[k];
+            if (dist.get(x) != d) continue; // basi: sudah diturunkan ke gelombang lebih awal
+            settled++;
+            int nd = d + model.cost(x);
+            int open = grid.openMask(x);
+            for (int d2 = 0; d2 < 4; d2++) {
+                if ((open & (1 << d2)) == 0) continue;
+                int y = x + grid.offset(d2);
+                int cur;
+                while (nd < (cur = dist.get(y))) {
+                    if (dist.compareAndSet(y, cur, nd)) {
+                        own[nd % buckets].add(y);
+                        break;
+                    }
+                }
+            }
+        }
+        return settled;
+    }
+
+    // --- Arah ---
+
+    // Arah ke tetangga x dengan dist[x] + cost(x) == dist[sel] (urutan arah tetap, jadi deterministik).
+    // Setiap sel independen, jadi cukup dibagi per rentang index.
+    private void computeDirections(ExecutorService pool, int workers) {
+        int n = grid.size();
+        int chunks = workers == 1 ? 1 : workers * 4;
+        if (chunks == 1) {
+            directions(0, n);
+            return;
+        }
+        List<Callable<Integer>> tasks = new ArrayList<>(chunks);
+        for (int t = 0; t < chunks; t++) {
+            int from = (int) ((long) n * t / chunks), to = (int) ((long) n * (t + 1) / chunks);
+            tasks.add(() -> directions(from, to));
+        }
+        invokeAll(pool, tasks);
+    }
+
+    private int directions(int from, int to) {
+        for (int v = from; v < to; v++) {
+            int dv = dist.get(v);
+            byte best = NONE;
+            if (v != target && dv != UNREACHABLE) {
+                int open = grid.openMask(v);
+                for (int d = 0; d < 4; d++) {
+                    if ((open & (1 << d)) == 0) continue;
+                    int x = v + grid.offset(d);
+                    int dx = dist.get(x);
+                    if (dx != UNREACHABLE && dx + model.cost(x) == dv) {
+                        best = (byte) d;
+                        break;
+                    }
+                }
+            }
+            dir[v] = best;
+        }
+        return to - from;
+    }
+
+    // Jalankan semua task dan jumlahkan hasilnya; interrupt (Stop di GUI) menjadi CancellationException
+    private static long invokeAll(ExecutorService pool, List<Callable<Integer>> tasks) {
+        try {
+            long sum = 0;
+            for (Future<Integer> f : pool.invokeAll(tasks)) sum += f.get();
+            return sum;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Flow field cancelled");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Flow field failed", e.getCause());
+        }
+    }
+}
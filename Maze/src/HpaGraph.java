@@ -0,0 +1,359 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Graf abstrak HPA* (Hierarchical Path-Finding A*).
+// Grid dibagi menjadi cluster persegi clusterSize x clusterSize. Di setiap batas antar dua cluster,
+// celah terbuka yang berurutan dan juga saling terhubung di sepanjang batas (run) diberi transisi: satu
+// di tengah, atau dua di ujung jika run panjang (>= LONG_RUN). Syarat terhubung penting di maze: dua
+// celah bersebelahan yang dipisah dinding bisa menuju koridor berbeda, jadi tidak boleh diwakili satu
+// transisi (di peta terbuka aturan ini sama dengan HPA* biasa). Sel di kedua sisi transisi menjadi
+// node abstrak, dihubungkan edge inter berbiaya cost(sel tujuan) yang dibaca langsung dari model.
+// Di dalam satu cluster, biaya antar semua pasangan node (intra) dihitung sekali dengan Dijkstra
+// lokal yang tidak keluar dari cluster.
+// Entrance hanya bergantung pada dinding di batas cluster, jadi edit terrain atau dinding di dalam
+// cluster cukup menandai cluster itu dirty; biaya intra-nya dihitung ulang saat query berikutnya.
+public class HpaGraph {
+
+    static final int INF = Integer.MAX_VALUE;
+    static final int LONG_RUN = 6;
+
+    final MazeModel model;
+    final MazeGrid grid;
+    int version;
+
+    final int clusterSize, clusterRows, clusterCols;
+    final int[] nodeCell;       // id node -> sel
+    final int[] nodeCluster;    // id node -> cluster
+    final int[] nodeLocal;      // id node -> posisi di clusterNodes[cluster]
+    final int[] inter;          // inter[2 * u + k] = node di cluster tetangga, atau -1 (maks. 2 per node)
+    final int[][] clusterNodes; // cluster -> id node
+    final int[][] intra;        // cluster -> matriks k x k, intra[c][i * k + j] = biaya node i -> node j
+
+    private final BitSet dirty = new BitSet();
+
+    private HpaGraph(MazeModel model, int clusterSize, int clusterRows, int clusterCols, int[] nodeCell,
+                     int[] nodeCluster, int[] nodeLocal, int[] inter, int[][] clusterNodes) {
+        this.model = model;
+        this.grid = model.getGrid();
+        this.version = model.getVersion();
+        this.clusterSize = clusterSize;
+        this.clusterRows = clusterRows;
+        this.clusterCols = clusterCols;
+        this.nodeCell = nodeCell;
+        this.nodeCluster = nodeCluster;
+        this.nodeLocal = nodeLocal;
+        this.inter = inter;
+        this.clusterNodes = clusterNodes;
+        this.intra = new int[clusterNodes.length][];
+    }
+
+    public static HpaGraph build(MazeModel model, int clusterSize, ExecutorService pool) {
+        MazeGrid grid = model.getGrid();
+        int clusterRows = (grid.rows + clusterSize - 1) / clusterSize;
+        int clusterCols = (grid.cols + clusterSize - 1) / clusterSize;
+        int clusters = clusterRows * clusterCols;
+
+        // --- Entrance: pasangan sel (a di cluster kiri / atas, b di kanan / bawah) ---
+        IntList pairs = new IntList();
+        for (int cr = 0; cr < clusterRows; cr++) {
+            int r0 = cr * clusterSize, r1 = Math.min(grid.rows, r0 + clusterSize);
+            for (int cc = 0; cc < clusterCols; cc++) {
+                int c0 = cc * clusterSize, c1 = Math.min(grid.cols, c0 + clusterSize);
+                if (c1 < grid.cols) scanBorder(grid, pairs, r0, r1, c1 - 1, true);
+                if (r1 < grid.rows) scanBorder(grid, pairs, c0, c1, r1 - 1, false);
+            }
+        }
+
+        // --- Node: satu per sel (sel pojok bisa ikut dua transisi) ---
+        IntList[] perCluster = new IntList[clusters];
+        for (int c = 0; c < clusters; c++) perCluster[c] = new IntList();
+        IntList cells = new IntList(), owners = new IntList(), links = new IntList();
+        int[] ends = new int[2];
+        for (int p = 0; p < pairs.size(); p += 2) {
+            for (int s = 0; s < 2; s++) {
+                int cell = pairs.get(p + s);
+                int cluster = clusterOf(grid, clusterSize, clusterCols, cell);
+                int node = -1;
+                IntList list = perCluster[cluster];
+                for (int k = 0; k < list.size(); k++) {
+                    if (cells.get(list.get(k)) == cell) { node = list.get(k); break; }
+                }
+                if (node < 0) {
+                    node = cells.size();
+                    cells.add(cell);
+                    owners.add(cluster);
+                    links.add(-1);
+                    links.add(-1);
+                    list.add(node);
+                }
+                ends[s] = node;
+            }
+            link(links, ends[0], ends[1]);
+            link(links, ends[1], ends[0]);
+        }
+
+        int n = cells.size();
+        int[] nodeLocal = new int[n];
+        int[][] clusterNodes = new int[clusters][];
+        for (int c = 0; c < clusters; c++) {
+            clusterNodes[c] = perCluster[c].toArray();
+            for (int k = 0; k < clusterNodes[c].length; k++) nodeLocal[clusterNodes[c][k]] = k;
+        }
+        HpaGraph g = new HpaGraph(model, clusterSize, clusterRows, clusterCols, cells.toArray(),
+                owners.toArray(), nodeLocal, links.toArray(), clusterNodes);
+
+        // --- Biaya intra: per blok cluster paralel, scratch per task (dilepas begitu task selesai) ---
+        int tasks = Math.min(clusters, 64);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < tasks; t++) {
+            int from = (int) ((long) clusters * t / tasks), to = (int) ((long) clusters * (t + 1) / tasks);
+            futures.add(pool.submit(() -> {
+                LocalSearch search = new LocalSearch(g);
+                for (int c = from; c < to; c++) g.computeIntra(c, search);
+            }));
+        }
+        try {
+            for (Future<?> f : futures) f.get();
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("HPA* preprocessing cancelled");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("HPA* preprocessing failed", e.getCause());
+        }
+        return g;
+    }
+
+    // Cari run celah terbuka di satu batas. vertical: batas antara kolom 'line' dan 'line + 1' untuk baris
+    // [from, to); selain itu batas antara baris 'line' dan 'line + 1' untuk kolom [from, to).
+    private static void scanBorder(MazeGrid grid, IntList pairs, int from, int to, int line, boolean vertical) {
+        int cross = vertical ? MazeGrid.RIGHT : MazeGrid.BOTTOM;
+        int along = vertical ? MazeGrid.TOP : MazeGrid.LEFT;   // dinding ke celah sebelumnya (k - 1)
+        int side = vertical ? 1 : grid.cols;                   // sel a -> sel b di seberang batas
+        int runStart = -1;
+        for (int k = from; k <= to; k++) {
+            int a = k < to ? (vertical ? grid.index(k, line) : grid.index(line, k)) : -1;
+            boolean open = a >= 0 && !grid.hasWall(a, cross);
+            boolean linked = open && runStart >= 0 && !grid.hasWall(a, along) && !grid.hasWall(a + side, along);
+            if (linked) continue;
+            if (runStart >= 0) {
+                int runEnd = k - 1;
+                if (runEnd - runStart + 1 >= LONG_RUN) {
+                    addPair(grid, pairs, runStart, line, vertical);
+                    addPair(grid, pairs, runEnd, line, vertical);
+                } else {
+                    addPair(grid, pairs, (runStart + runEnd) >>> 1, line, vertical);
+                }
+            }
+            runStart = open ? k : -1;
+        }
+    }
+
+    private static void addPair(MazeGrid grid, IntList pairs, int k, int line, boolean vertical) {
+        int a = vertical ? grid.index(k, line) : grid.index(line, k);
+        pairs.add(a);
+        pairs.add(vertical ? a + 1 : a + grid.cols);
+    }
+
+    private static void link(IntList links, int from, int to) {
+        if (links.get(2 * from) < 0) links.set(2 * from, to);
+        else if (links.get(2 * from) != to) links.set(2 * from + 1, to);
+    }
+
+    static int clusterOf(MazeGrid grid, int clusterSize, int clusterCols, int cell) {
+        return grid.row(cell) / clusterSize * clusterCols + grid.col(cell) / clusterSize;
+    }
+
+    public int clusterOf(int cell) {
+        return clusterOf(grid, clusterSize, clusterCols, cell);
+    }
+
+    public int nodeCount() { return nodeCell.length; }
+    public int clusterCount() { return clusterNodes.length; }
+
+    // Dijkstra lokal dari setiap node cluster ke node lain di cluster yang sama. Karena biaya adalah
+    // biaya MASUK sel dan dinding simetris, d(j, i) = d(i, j) - cost(j) + cost(i): node i cukup
+    // mencari node j > i (berhenti begitu semuanya selesai), separuh matriks lainnya diturunkan.
+    void computeIntra(int cluster, LocalSearch search) {
+        int[] nodes = clusterNodes[cluster];
+        int k = nodes.length;
+        int[] m = new int[k * k];
+        for (int i = 0; i < k; i++) {
+            if (i + 1 < k) {
+                search.begin(cluster);
+                for (int j = i + 1; j < k; j++) search.want(nodeCell[nodes[j]]);
+                search.run(nodeCell[nodes[i]], false);
+            }
+            int ci = nodeCell[nodes[i]];
+            for (int j = i + 1; j < k; j++) {
+                int cj = nodeCell[nodes[j]];
+                int d = search.distTo(cj);
+                m[i * k + j] = d;
+                m[j * k + i] = d == INF ? INF : d - model.cost(cj) + model.cost(ci);
+            }
+        }
+        intra[cluster] = m;
+    }
+
+    // --- Edit incremental ---
+
+    // Graf masih bisa diperbaiki jika sinkron dengan versi tepat sebelum edit ini
+    boolean acceptEdit(MazeModel m) {
+        if (m != model || m.getGrid() != grid || version != m.getVersion() - 1) return false;
+        version = m.getVersion();
+        return true;
+    }
+
+    // True jika dinding antara a dan b ikut menentukan entrance: menyeberang batas cluster, atau
+    // memisahkan dua celah bersebelahan di sepanjang batas (syarat run di scanBorder)
+    boolean affectsEntrances(int a, int b) {
+        if (clusterOf(a) != clusterOf(b)) return true;
+        if (grid.row(a) == grid.row(b)) {
+            int r = grid.row(a), lr = r % clusterSize;
+            return lr == 0 && r > 0 || lr == clusterSize - 1 && r + 1 < grid.rows;
+        }
+        int c = grid.col(a), lc = c % clusterSize;
+        return lc == 0 && c > 0 || lc == clusterSize - 1 && c + 1 < grid.cols;
+    }
+
+    void markDirty(int cell) {
+        dirty.set(clusterOf(cell));
+    }
+
+    public boolean isCurrent(MazeModel m) {
+        return m == model && m.getGrid() == grid && version == m.getVersion();
+    }
+
+    // Hitung ulang biaya intra cluster yang berubah sejak query terakhir; kembalikan jumlahnya
+    int refreshDirty(LocalSearch search) {
+        int count = 0;
+        for (int c = dirty.nextSetBit(0); c >= 0; c = dirty.nextSetBit(c + 1)) {
+            computeIntra(c, search);
+            count++;
+        }
+        dirty.clear();
+        return count;
+    }
+
+    // Dijkstra yang dibatasi di dalam satu cluster. Scratch berukuran clusterSize^2 (index lokal),
+    // dipakai ulang dengan stamp; tetangga dicari dengan offset lokal tanpa pembagian di inner loop.
+    // reverse: jarak dihitung MENUJU source (relaksasi x -> y menambah cost(x), karena langkah
+    // sebenarnya y -> x masuk ke x), dipakai untuk biaya node -> end.
+    // Pemakaian: begin(cluster), want(sel) untuk target (opsional, tanpa target = seluruh cluster), run.
+    static final class LocalSearch {
+        private final HpaGraph g;
+        private final int[] dist, parent, stamp, wanted;
+        private final IndexedMinHeap heap;
+        private final int[] localOffset = new int[4], cellOffset = new int[4];
+        private int current, remaining, r0, c0, height, width;
+
+        LocalSearch(HpaGraph g) {
+            this.g = g;
+            int area = g.clusterSize * g.clusterSize;
+            dist = new int[area];
+            parent = new int[area];
+            stamp = new int[area];
+            wanted = new int[area];
+            heap = new IndexedMinHeap(area);
+            for (int d = 0; d < 4; d++) cellOffset[d] = g.grid.offset(d);
+        }
+
+        void begin(int cluster) {
+            if (++current == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                Arrays.fill(wanted, 0);
+                current = 1;
+            }
+            MazeGrid grid = g.grid;
+            r0 = cluster / g.clusterCols * g.clusterSize;
+            c0 = cluster % g.clusterCols * g.clusterSize;
+            height = Math.min(grid.rows, r0 + g.clusterSize) - r0;
+            width = Math.min(grid.cols, c0 + g.clusterSize) - c0;
+            localOffset[MazeGrid.TOP] = -width;
+            localOffset[MazeGrid.RIGHT] = 1;
+            localOffset[MazeGrid.BOTTOM] = width;
+            localOffset[MazeGrid.LEFT] = -1;
+            remaining = 0;
+        }
+
+        void want(int cell) {
+            int v = local(cell);
+            if (wanted[v] != current) {
+                wanted[v] = current;
+                remaining++;
+            }
+        }
+
+        // Satu target saja (dipakai saat memperhalus path)
+        void run(int cluster, int source, boolean reverse, int target) {
+            begin(cluster);
+            if (target >= 0) want(target);
+            run(source, reverse);
+        }
+
+        void run(int source, boolean reverse) {
+            MazeGrid grid = g.grid;
+            MazeModel model = g.model;
+            boolean all = remaining == 0;
+            int s = local(source);
+            dist[s] = 0;
+            parent[s] = -1;
+            stamp[s] = current;
+            heap.clear();
+            heap.pushOrDecrease(s, 0);
+            while (!heap.isEmpty()) {
+                int du = heap.peekKey();
+                int u = heap.poll();
+                if (wanted[u] == current && --remaining == 0 && !all) break;
+                int lr = u / width, lc = u - lr * width;
+                int cell = (r0 + lr) * grid.cols + c0 + lc;
+                // Batas cluster selalu di dalam grid, jadi cukup cek batas lokal
+                int open = ~grid.walls(cell) & MazeGrid.ALL_WALLS;
+                if (lr == 0) open &= ~(1 << MazeGrid.TOP);
+                if (lc == width - 1) open &= ~(1 << MazeGrid.RIGHT);
+                if (lr == height - 1) open &= ~(1 << MazeGrid.BOTTOM);
+                if (lc == 0) open &= ~(1 << MazeGrid.LEFT);
+                for (int d = 0; d < 4; d++) {
+                    if ((open & (1 << d)) == 0) continue;
+                    int v = u + localOffset[d];
+                    int nd = du + model.cost(reverse ? cell : cell + cellOffset[d]);
+                    if (stamp[v] != current || nd < dist[v]) {
+                        stamp[v] = current;
+                        dist[v] = nd;
+                        parent[v] = u;
+                        heap.pushOrDecrease(v, nd);
+                    }
+                }
+            }
+        }
+
+        private int local(int cell) {
+            return (g.grid.row(cell) - r0) * width + g.grid.col(cell) - c0;
+        }
+
+        int distTo(int cell) {
+            int v = local(cell);
+            return stamp[v] == current ? dist[v] : INF;
+        }
+
+        // Tambahkan sel path dari source (tidak ikut) sampai cell ke out (hanya untuk run forward)
+        void appendPath(int cell, IntList out) {
+            int from = out.size();
+            for (int v = local(cell); parent[v] >= 0; v = parent[v]) {
+                out.add((r0 + v / width) * g.grid.cols + c0 + v % width);
+            }
+            // Bagian yang baru ditambahkan masih terbalik (cell -> source)
+            for (int i = from, j = out.size() - 1; i < j; i++, j--) {
+                int t = out.get(i);
+                out.set(i, out.get(j));
+                out.set(j, t);
+            }
+        }
+    }
+}
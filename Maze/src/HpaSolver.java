@@ -0,0 +1,181 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// HPA*: A* di graf abstrak HpaGraph, lalu path diperhalus hanya di cluster yang dilewati.
+// Start dan end disambungkan sementara ke node cluster masing-masing lewat Dijkstra lokal
+// (node S = nodeCount, E = nodeCount + 1). Hasilnya hampir optimal: path hanya boleh menyeberang
+// batas cluster di transisi yang dipilih, jadi bisa sedikit lebih mahal dari Dijkstra penuh.
+// Edit terrain / dinding di dalam cluster hanya membuat cluster itu dihitung ulang; dinding di
+// batas cluster mengubah entrance, jadi graf dibangun ulang seluruhnya.
+public class HpaSolver implements MazeSolver, MazeEditListener {
+
+    private static final int INF = HpaGraph.INF;
+
+    private final int clusterSize;
+    private HpaGraph graph;
+    private HpaGraph.LocalSearch search;
+
+    private int capacity = -1;
+    private int[] dist, parent, stampSeen, toEnd;
+    private IndexedMinHeap heap;
+    private int stamp;
+
+    public HpaSolver() {
+        this(32);
+    }
+
+    public HpaSolver(int clusterSize) {
+        this.clusterSize = clusterSize;
+    }
+
+    @Override
+    public String name() { return "HPA* (hierarchical)"; }
+
+    // Bangun graf sekarang (paralel); kalau tidak, dibangun otomatis saat solve pertama
+    public HpaGraph graphFor(MazeModel model) {
+        if (graph == null || !graph.isCurrent(model)) {
+            graph = HpaGraph.build(model, clusterSize, ForkJoinPool.commonPool());
+            search = new HpaGraph.LocalSearch(graph);
+        }
+        graph.refreshDirty(search);
+        return graph;
+    }
+
+    // --- Notifikasi edit ---
+
+    @Override
+    public void wallChanged(MazeModel model, int a, int b) {
+        if (graph == null) return;
+        if (graph.acceptEdit(model) && !graph.affectsEntrances(a, b)) graph.markDirty(a);
+        else graph = null;
+    }
+
+    @Override
+    public void costChanged(MazeModel model, int cell) {
+        if (graph == null) return;
+        if (graph.acceptEdit(model)) graph.markDirty(cell);
+        else graph = null;
+    }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        dist = new int[n];
+        parent = new int[n];
+        stampSeen = new int[n];
+        toEnd = new int[n];
+        heap = new IndexedMinHeap(n);
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        if (start == end) {
+            return new SolveResult(name(), true, true, 1, grid.size(), 0, new int[]{start}, System.nanoTime() - t0);
+        }
+        HpaGraph g = graphFor(model);
+        int nodes = g.nodeCount(), s = nodes, e = nodes + 1;
+        ensureCapacity(nodes + 2);
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stampSeen, 0);
+            stamp = 1;
+        }
+
+        // Sambungan sementara: biaya start -> node cluster start (+ langsung ke end jika satu cluster),
+        // dan node cluster end -> end (Dijkstra lokal terbalik dari end)
+        int startCluster = g.clusterOf(start), endCluster = g.clusterOf(end);
+        int[] endNodes = g.clusterNodes[endCluster];
+        search.run(endCluster, end, true, -1);
+        for (int k = 0; k < endNodes.length; k++) toEnd[k] = search.distTo(g.nodeCell[endNodes[k]]);
+        int direct = INF;
+        if (startCluster == endCluster) direct = search.distTo(start);
+
+        int[] startNodes = g.clusterNodes[startCluster];
+        search.run(startCluster, start, false, -1);
+        int endRow = grid.row(end), endCol = grid.col(end);
+
+        heap.clear();
+        dist[s] = 0;
+        parent[s] = -1;
+        stampSeen[s] = stamp;
+        heap.pushOrDecrease(s, 0);
+        int expanded = 0;
+        boolean found = false;
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            if (u == e) {
+                found = true;
+                break;
+            }
+            int du = dist[u];
+            if (u == s) {
+                for (int v : startNodes) relax(u, v, search.distTo(g.nodeCell[v]), du, grid, endRow, endCol);
+                if (direct != INF) relax(u, e, direct, du, grid, endRow, endCol);
+                continue;
+            }
+            expanded++;
+            if (trace != null) trace.onExpand(g.nodeCell[u], heap.size());
+
+            int cluster = g.nodeCluster[u];
+            int[] local = g.clusterNodes[cluster];
+            int[] m = g.intra[cluster];
+            int k = local.length, i = g.nodeLocal[u];
+            for (int j = 0; j < k; j++) {
+                if (j != i) relax(u, local[j], m[i * k + j], du, grid, endRow, endCol);
+            }
+            for (int t = 0; t < 2; t++) {
+                int v = g.inter[2 * u + t];
+                if (v >= 0) relax(u, v, model.cost(g.nodeCell[v]), du, grid, endRow, endCol);
+            }
+            if (cluster == endCluster) relax(u, e, toEnd[i], du, grid, endRow, endCol);
+        }
+
+        int[] path = new int[0];
+        if (found) path = refine(g, start, end, e);
+        return new SolveResult(name(), found, true, expanded, grid.size(),
+                found ? dist[e] : -1, path, System.nanoTime() - t0);
+    }
+
+    private void relax(int u, int v, int w, int du, MazeGrid grid, int endRow, int endCol) {
+        if (w == INF) return;
+        int nd = du + w;
+        if (stampSeen[v] == stamp && nd >= dist[v]) return;
+        stampSeen[v] = stamp;
+        dist[v] = nd;
+        parent[v] = u;
+        int h = 0;
+        if (v < graph.nodeCount()) {
+            int cell = graph.nodeCell[v];
+            h = Math.abs(grid.row(cell) - endRow) + Math.abs(grid.col(cell) - endCol);
+        }
+        heap.pushOrDecrease(v, nd + h);
+    }
+
+    // Kembangkan path abstrak menjadi sel: langkah inter = satu sel, langkah intra = Dijkstra lokal
+    private int[] refine(HpaGraph g, int start, int end, int e) {
+        IntList abstractPath = new IntList();
+        for (int v = e; v >= 0; v = parent[v]) abstractPath.add(v);
+        abstractPath.reverse();
+
+        IntList cells = new IntList();
+        cells.add(start);
+        int prev = start;
+        for (int k = 1; k < abstractPath.size(); k++) {
+            int v = abstractPath.get(k);
+            int cell = v == e ? end : g.nodeCell[v];
+            if (cell == prev) continue;
+            int cluster = g.clusterOf(prev);
+            if (cluster != g.clusterOf(cell)) {
+                cells.add(cell);
+            } else {
+                search.run(cluster, prev, false, cell);
+                search.appendPath(cell, cells);
+            }
+            prev = cell;
+        }
+        return cells.toArray();
+    }
+}
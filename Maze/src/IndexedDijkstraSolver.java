@@ -0,0 +1,102 @@
+// Dijkstra / A* dengan state berbasis index: int[] dist & parent + IndexedMinHeap (decrease-key).
+// Tidak ada HashMap, tidak ada entry basi di antrian, dan tidak ada alokasi per node yang diekspansi.
+// dist hanya valid jika stamp[cell] == stamp query ini, jadi tidak perlu mengisi ulang O(n) per query.
+public class IndexedDijkstraSolver implements MazeSolver {
+
+    private final boolean useAStar;
+
+    private int capacity = -1;
+    private int[] dist, parent, stampSeen, stampDone;
+    private IndexedMinHeap heap;
+    private int stamp;
+    private final int[] offsets = new int[4];
+
+    public IndexedDijkstraSolver(boolean useAStar) {
+        this.useAStar = useAStar;
+    }
+
+    @Override
+    public String name() { return useAStar ? "A* (A-Star)" : "Dijkstra"; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        dist = new int[n];
+        parent = new int[n];
+        stampSeen = new int[n];
+        stampDone = new int[n];
+        heap = new IndexedMinHeap(n);
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        ensureCapacity(n);
+        if (++stamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(stampSeen, 0);
+            java.util.Arrays.fill(stampDone, 0);
+            stamp = 1;
+        }
+        heap.clear();
+
+        int endRow = grid.row(end), endCol = grid.col(end);
+        int cols = grid.cols;
+        int[] offsets = this.offsets;
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        dist[start] = 0;
+        parent[start] = -1;
+        stampSeen[start] = stamp;
+        heap.pushOrDecrease(start, useAStar ? manhattan(start, endRow, endCol, cols) : 0);
+
+        boolean found = false;
+        int visitedNodesCount = 0;
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            stampDone[current] = stamp;
+
+            if (current == end) {
+                found = true;
+                break;
+            }
+
+            visitedNodesCount++;
+            if (trace != null) trace.onExpand(current, heap.size());
+
+            int dc = dist[current];
+            int open = grid.openMask(current);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int next = current + offsets[d];
+                if (stampDone[next] == stamp) continue;
+
+                int newDist = dc + model.cost(next);
+                if (stampSeen[next] != stamp || newDist < dist[next]) {
+                    stampSeen[next] = stamp;
+                    dist[next] = newDist;
+                    parent[next] = current;
+                    heap.pushOrDecrease(next, useAStar ? newDist + manhattan(next, endRow, endCol, cols) : newDist);
+                }
+            }
+        }
+
+        int[] path = new int[0];
+        if (found) {
+            IntList list = new IntList();
+            for (int c = end; c >= 0; c = parent[c]) list.add(c);
+            list.reverse();
+            path = list.toArray();
+        }
+        return new SolveResult(name(), found, true, visitedNodesCount, n,
+                found ? dist[end] : -1, path, System.nanoTime() - t0);
+    }
+
+    private static int manhattan(int cell, int endRow, int endCol, int cols) {
+        return Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+    }
+
+}
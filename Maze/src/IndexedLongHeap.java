@@ -0,0 +1,96 @@
+import java.util.Arrays;
+
+// Seperti IndexedMinHeap tetapi dengan key long dan key boleh naik atau turun (update) serta
+// id boleh dihapus dari tengah heap. Dipakai LpaStarSolver: key [k1; k2] dipaket menjadi
+// (k1 << 32) | k2, jadi perbandingan long biasa = perbandingan leksikografis.
+public class IndexedLongHeap {
+    private final int[] ids;
+    private final long[] keys;
+    private final int[] pos;
+    private int size;
+
+    public IndexedLongHeap(int capacity) {
+        ids = new int[capacity];
+        keys = new long[capacity];
+        pos = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int capacity() { return pos.length; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean contains(int id) { return pos[id] >= 0; }
+    public long peekKey() { return keys[0]; }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[ids[i]] = -1;
+        size = 0;
+    }
+
+    // Tambah id, atau ganti key-nya (naik maupun turun) jika sudah ada
+    public void pushOrUpdate(int id, long key) {
+        int p = pos[id];
+        if (p < 0) {
+            siftUp(size++, id, key);
+        } else if (key < keys[p]) {
+            siftUp(p, id, key);
+        } else if (key > keys[p]) {
+            siftDown(p, id, key);
+        }
+    }
+
+    public int poll() {
+        int top = ids[0];
+        pos[top] = -1;
+        if (--size > 0) siftDown(0, ids[size], keys[size]);
+        return top;
+    }
+
+    // Hapus id jika ada: elemen terakhir dipindah ke posisinya lalu di-sift ke arah yang perlu
+    public void remove(int id) {
+        int p = pos[id];
+        if (p < 0) return;
+        pos[id] = -1;
+        if (--size == p) return;
+        int lastId = ids[size];
+        long lastKey = keys[size];
+        if (p > 0 && lastKey < keys[(p - 1) >>> 1]) siftUp(p, lastId, lastKey);
+        else siftDown(p, lastId, lastKey);
+    }
+
+    private void siftUp(int p, int id, long key) {
+        while (p > 0) {
+            int parent = (p - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            move(parent, p);
+            p = parent;
+        }
+        place(p, id, key);
+    }
+
+    private void siftDown(int p, int id, long key) {
+        int half = size >>> 1;
+        while (p < half) {
+            int child = 2 * p + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (key <= keys[child]) break;
+            move(child, p);
+            p = child;
+        }
+        place(p, id, key);
+    }
+
+    private void move(int from, int to) {
+        int id = ids[from];
+        ids[to] = id;
+        keys[to] = keys[from];
+        pos[id] = to;
+    }
+
+    private void place(int p, int id, long key) {
+        ids[p] = id;
+        keys[p] = key;
+        pos[id] = p;
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Arrays;
+
+// Binary min-heap atas id sel (0..capacity-1) dengan key int dan decrease-key O(log n).
+// pos[id] menyimpan posisi id di heap (-1 jika tidak ada), jadi tidak pernah ada entry duplikat.
+// Key disimpan sejajar dengan posisi heap (bukan per id) supaya sift tidak lompat-lompat di memori.
+// Semua array dialokasikan sekali; push / poll / decreaseKey tidak mengalokasi apa pun.
+public class IndexedMinHeap {
+    private final int[] ids;
+    private final int[] keys;
+    private final int[] pos;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        ids = new int[capacity];
+        keys = new int[capacity];
+        pos = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int capacity() { return pos.length; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public boolean contains(int id) { return pos[id] >= 0; }
+    public int peekKey() { return keys[0]; }
+
+    // Kosongkan heap dalam O(size), bukan O(capacity)
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[ids[i]] = -1;
+        size = 0;
+    }
+
+    // Tambah id baru, atau turunkan key jika id sudah ada dan key baru lebih kecil
+    public void pushOrDecrease(int id, int key) {
+        int p = pos[id];
+        if (p < 0) {
+            siftUp(size++, id, key);
+        } else if (key < keys[p]) {
+            siftUp(p, id, key);
+        }
+    }
+
+    public int poll() {
+        int top = ids[0];
+        pos[top] = -1;
+        if (--size > 0) siftDown(0, ids[size], keys[size]);
+        return top;
+    }
+
+    private void siftUp(int p, int id, int key) {
+        while (p > 0) {
+            int parent = (p - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            move(parent, p);
+            p = parent;
+        }
+        place(p, id, key);
+    }
+
+    private void siftDown(int p, int id, int key) {
+        int half = size >>> 1;
+        while (p < half) {
+            int child = 2 * p + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (key <= keys[child]) break;
+            move(child, p);
+            p = child;
+        }
+        place(p, id, key);
+    }
+
+    private void move(int from, int to) {
+        int id = ids[from];
+        ids[to] = id;
+        keys[to] = keys[from];
+        pos[id] = to;
+    }
+
+    private void place(int p, int id, int key) {
+        ids[p] = id;
+        keys[p] = key;
+        pos[id] = p;
+    }
+}
@@ -0,0 +1,59 @@
+import java.util.Arrays;
+
+// List int sederhana tanpa boxing (untuk path & antrian index sel)
+public class IntList {
+    private int[] data;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int capacity) {
+        data = new int[Math.max(4, capacity)];
+    }
+
+    public void add(int v) {
+        if (size == data.length) data = Arrays.copyOf(data, data.length * 2);
+        data[size++] = v;
+    }
+
+    public int get(int i) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        return data[i];
+    }
+
+    public void set(int i, int v) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        data[i] = v;
+    }
+
+    // Hapus elemen ke-i dalam O(1) dengan menukar elemen terakhir ke posisinya (urutan tidak dijaga)
+    public int removeSwap(int i) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        int v = data[i];
+        data[i] = data[--size];
+        return v;
+    }
+
+    public int removeLast() {
+        if (size == 0) throw new IndexOutOfBoundsException(0);
+        return data[--size];
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; }
+
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int t = data[i];
+            data[i] = data[j];
+            data[j] = t;
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+}
@@ -0,0 +1,138 @@
+// Graf junction hasil kontraksi koridor.
+// Node = sel yang derajatnya bukan 2 (persimpangan, dead end, sel terisolasi). Sel berderajat 2
+// adalah koridor dan tidak disimpan sebagai node: setiap koridor menjadi satu edge berbobot
+// antara dua node. Bobot edge u -> v = jumlah cost sel koridor di antaranya (inner) + cost(v),
+// jadi tetap sama dengan jumlah cost sel yang dimasuki pada grid asli.
+// Sel koridor tidak menyimpan apa pun selain nodeOf = -1; path dikembangkan kembali dengan
+// berjalan di grid mulai dari arah pertama edge.
+public class JunctionGraph {
+
+    final MazeModel model;
+    final MazeGrid grid;
+    final int version;
+
+    final int[] nodeOf;      // sel -> id node, atau -1 untuk sel koridor
+    final int[] nodeCell;    // id node -> sel
+    final int[] adjStart;    // CSR: edge milik node u ada di [adjStart[u], adjStart[u + 1])
+    final int[] adjTarget;   // node tujuan
+    final int[] adjInner;    // jumlah cost sel koridor (tanpa node ujung)
+    final byte[] adjDir;     // arah pertama dari node asal masuk ke koridor
+
+    private final int[] offsets = new int[4];
+
+    // Hasil satu kali jalan menyusuri koridor (dipakai ulang, tanpa alokasi)
+    static final class Walk {
+        int end;         // sel terakhir (node, atau target jika hitTarget)
+        int inner;       // jumlah cost sel di antara awal dan end (keduanya tidak dihitung)
+        int lastDir;     // arah langkah terakhir saat masuk ke end
+        boolean hitTarget;
+    }
+
+    private JunctionGraph(MazeModel model, int[] nodeOf, int[] nodeCell, int[] adjStart,
+                          int[] adjTarget, int[] adjInner, byte[] adjDir) {
+        this.model = model;
+        this.grid = model.getGrid();
+        this.version = model.getVersion();
+        this.nodeOf = nodeOf;
+        this.nodeCell = nodeCell;
+        this.adjStart = adjStart;
+        this.adjTarget = adjTarget;
+        this.adjInner = adjInner;
+        this.adjDir = adjDir;
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+    }
+
+    public static JunctionGraph build(MazeModel model) {
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+
+        int[] nodeOf = new int[n];
+        IntList nodeCells = new IntList();
+        for (int i = 0; i < n; i++) {
+            if (Integer.bitCount(grid.openMask(i)) != 2) {
+                nodeOf[i] = nodeCells.size();
+                nodeCells.add(i);
+            } else {
+                nodeOf[i] = -1;
+            }
+        }
+
+        IntList starts = new IntList(), targets = new IntList(), inners = new IntList(), dirs = new IntList();
+        java.util.BitSet covered = new java.util.BitSet(n);
+        JunctionGraph tmp = new JunctionGraph(model, nodeOf, null, null, null, null, null);
+        Walk w = new Walk();
+
+        // Edge dari setiap node; node baru bisa ditambahkan untuk siklus tanpa persimpangan
+        int u = 0;
+        int scan = 0;
+        while (true) {
+            for (; u < nodeCells.size(); u++) {
+                int cell = nodeCells.get(u);
+                starts.add(targets.size());
+                int open = grid.openMask(cell);
+                for (int d = 0; d < 4; d++) {
+                    if ((open & (1 << d)) == 0) continue;
+                    tmp.walk(cell, d, -1, w, covered);
+                    targets.add(nodeOf[w.end]);
+                    inners.add(w.inner);
+                    dirs.add(d);
+                }
+            }
+            // Koridor yang belum tercakup = siklus murni: jadikan salah satu selnya node
+            while (scan < n && (nodeOf[scan] >= 0 || covered.get(scan))) scan++;
+            if (scan == n) break;
+            nodeOf[scan] = nodeCells.size();
+            nodeCells.add(scan);
+        }
+        starts.add(targets.size());
+
+        byte[] adjDir = new byte[dirs.size()];
+        for (int i = 0; i < adjDir.length; i++) adjDir[i] = (byte) dirs.get(i);
+        return new JunctionGraph(model, nodeOf, nodeCells.toArray(), starts.toArray(),
+                targets.toArray(), inners.toArray(), adjDir);
+    }
+
+    public int nodeCount() { return nodeCell.length; }
+    public int edgeCount() { return adjTarget.length; }
+    public boolean isNode(int cell) { return nodeOf[cell] >= 0; }
+
+    // Masih sesuai dengan maze di model?
+    public boolean isCurrent(MazeModel m) {
+        return m == model && m.getGrid() == grid && m.getVersion() == version;
+    }
+
+    // Jalan dari 'from' ke arah dir menyusuri koridor sampai bertemu node atau target
+    void walk(int from, int dir, int target, Walk w) {
+        walk(from, dir, target, w, null);
+    }
+
+    private void walk(int from, int dir, int target, Walk w, java.util.BitSet covered) {
+        int cur = from + offsets[dir];
+        int inDir = dir;
+        int sum = 0;
+        while (cur != target && nodeOf[cur] < 0) {
+            if (covered != null) covered.set(cur);
+            sum += model.cost(cur);
+            int mask = grid.openMask(cur) & ~(1 << MazeGrid.opposite(inDir));
+            inDir = Integer.numberOfTrailingZeros(mask);
+            cur += offsets[inDir];
+        }
+        w.end = cur;
+        w.inner = sum;
+        w.lastDir = inDir;
+        w.hitTarget = cur == target;
+    }
+
+    // Tambahkan ke out semua sel setelah 'from' di arah dir sampai node berikutnya atau stopAt (inklusif)
+    void appendWalk(int from, int dir, int stopAt, IntList out) {
+        int cur = from + offsets[dir];
+        int inDir = dir;
+        while (true) {
+            out.add(cur);
+            if (cur == stopAt || nodeOf[cur] >= 0) return;
+            int mask = grid.openMask(cur) & ~(1 << MazeGrid.opposite(inDir));
+            inDir = Integer.numberOfTrailingZeros(mask);
+            cur += offsets[inDir];
+        }
+    }
+}
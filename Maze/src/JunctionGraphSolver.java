@@ -0,0 +1,181 @@
+import java.util.Arrays;
+
+// Dijkstra / A* di atas JunctionGraph (koridor sudah dikontraksi).
+// Graf dibangun sekali per versi maze lalu dipakai ulang, jadi maze yang di-solve berkali-kali
+// hanya membayar biaya kontraksi satu kali. Untuk maze unweighted (cost = 1) hasilnya sama dengan BFS.
+// Start / end boleh berada di tengah koridor: start menjadi seed ke dua node ujung koridornya,
+// end menjadi kandidat setiap kali salah satu node ujung koridornya selesai diproses.
+public class JunctionGraphSolver implements MazeSolver {
+
+    private final boolean useAStar;
+    private JunctionGraph graph;
+
+    private int capacity = -1;
+    private int[] dist, parentNode, parentEdge, stampSeen, stampDone;
+    private IndexedMinHeap heap;
+    private int stamp;
+    private final JunctionGraph.Walk walk = new JunctionGraph.Walk();
+
+    // Node ujung koridor yang berisi end (maksimal 2)
+    private final int[] entryNode = new int[2], entryCost = new int[2], entryDir = new int[2];
+
+    public JunctionGraphSolver(boolean useAStar) {
+        this.useAStar = useAStar;
+    }
+
+    @Override
+    public String name() { return useAStar ? "Junction A*" : "Junction Dijkstra"; }
+
+    public JunctionGraph graphFor(MazeModel model) {
+        if (graph == null || !graph.isCurrent(model)) graph = JunctionGraph.build(model);
+        return graph;
+    }
+
+    private void ensureCapacity(int nodes) {
+        if (capacity == nodes) return;
+        capacity = nodes;
+        dist = new int[nodes];
+        parentNode = new int[nodes];
+        parentEdge = new int[nodes];
+        stampSeen = new int[nodes];
+        stampDone = new int[nodes];
+        heap = new IndexedMinHeap(nodes);
+        stamp = 0;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        JunctionGraph g = graphFor(model);
+        MazeGrid grid = model.getGrid();
+        ensureCapacity(g.nodeCount());
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stampSeen, 0);
+            Arrays.fill(stampDone, 0);
+            stamp = 1;
+        }
+        heap.clear();
+        boolean weighted = model.maxCost() > 1;
+
+        if (start == end) {
+            return new SolveResult(name(), true, weighted, 0, grid.size(), 0, new int[]{start}, System.nanoTime() - t0);
+        }
+
+        int endRow = grid.row(end), endCol = grid.col(end), cols = grid.cols;
+        long best = Long.MAX_VALUE;
+        int bestEntry = -1;         // -1 = belum ada, -2 = langsung lewat koridor start, >= 0 = index entry
+        int directDir = -1;
+
+        // 1. Seed dari start
+        if (g.isNode(start)) {
+            seed(g.nodeOf[start], 0, -1, endRow, endCol, cols, g);
+        } else {
+            int open = grid.openMask(start);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                g.walk(start, d, end, walk);
+                int c = walk.inner + model.cost(walk.end);
+                if (walk.hitTarget) {
+                    if (c < best) { best = c; bestEntry = -2; directDir = d; }
+                } else {
+                    seed(g.nodeOf[walk.end], c, -2 - d, endRow, endCol, cols, g);
+                }
+            }
+        }
+
+        // 2. Titik masuk ke end
+        int targetNode = g.isNode(end) ? g.nodeOf[end] : -1;
+        int entries = 0;
+        if (targetNode < 0) {
+            int open = grid.openMask(end);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                g.walk(end, d, -1, walk);
+                entryNode[entries] = g.nodeOf[walk.end];
+                entryCost[entries] = walk.inner + model.cost(end);
+                entryDir[entries] = MazeGrid.opposite(walk.lastDir);
+                entries++;
+            }
+        }
+
+        // 3. Dijkstra / A* atas node
+        int nodesVisited = 0;
+        while (!heap.isEmpty() && heap.peekKey() < best) {
+            int u = heap.poll();
+            stampDone[u] = stamp;
+            nodesVisited++;
+            int cell = g.nodeCell[u];
+            if (trace != null) trace.onExpand(cell, heap.size());
+
+            if (u == targetNode) {
+                best = dist[u];
+                break;
+            }
+            for (int k = 0; k < entries; k++) {
+                if (entryNode[k] == u && dist[u] + (long) entryCost[k] < best) {
+                    best = dist[u] + (long) entryCost[k];
+                    bestEntry = k;
+                }
+            }
+
+            int du = dist[u];
+            for (int e = g.adjStart[u], stop = g.adjStart[u + 1]; e < stop; e++) {
+                int v = g.adjTarget[e];
+                if (stampDone[v] == stamp) continue;
+                int nd = du + g.adjInner[e] + model.cost(g.nodeCell[v]);
+                if (stampSeen[v] != stamp || nd < dist[v]) {
+                    stampSeen[v] = stamp;
+                    dist[v] = nd;
+                    parentNode[v] = u;
+                    parentEdge[v] = e;
+                    heap.pushOrDecrease(v, useAStar ? nd + manhattan(g.nodeCell[v], endRow, endCol, cols) : nd);
+                }
+            }
+        }
+
+        boolean found = best != Long.MAX_VALUE;
+        int[] path = new int[0];
+        if (found) {
+            IntList cells = new IntList();
+            cells.add(start);
+            if (bestEntry == -2) {
+                g.appendWalk(start, directDir, end, cells);
+            } else {
+                int last = bestEntry >= 0 ? entryNode[bestEntry] : targetNode;
+                appendNodeChain(g, start, last, cells);
+                if (bestEntry >= 0) g.appendWalk(g.nodeCell[last], entryDir[bestEntry], end, cells);
+            }
+            path = cells.toArray();
+        }
+        return new SolveResult(name(), found, weighted, nodesVisited, grid.size(),
+                found ? best : -1, path, System.nanoTime() - t0);
+    }
+
+    private void seed(int node, int cost, int via, int endRow, int endCol, int cols, JunctionGraph g) {
+        if (stampSeen[node] == stamp && dist[node] <= cost) return;
+        stampSeen[node] = stamp;
+        dist[node] = cost;
+        parentNode[node] = -1;
+        parentEdge[node] = via;
+        heap.pushOrDecrease(node, useAStar ? cost + manhattan(g.nodeCell[node], endRow, endCol, cols) : cost);
+    }
+
+    // Kembangkan rantai node start -> last menjadi sel (start sudah ada di cells)
+    private void appendNodeChain(JunctionGraph g, int start, int last, IntList cells) {
+        IntList chain = new IntList();
+        for (int u = last; u >= 0; u = parentNode[u]) chain.add(u);
+        chain.reverse();
+
+        int first = chain.get(0);
+        int via = parentEdge[first];
+        if (via <= -2) g.appendWalk(start, -2 - via, -1, cells);   // start di tengah koridor
+        for (int i = 1; i < chain.size(); i++) {
+            int v = chain.get(i);
+            g.appendWalk(g.nodeCell[parentNode[v]], g.adjDir[parentEdge[v]], -1, cells);
+        }
+    }
+
+    private static int manhattan(int cell, int endRow, int endCol, int cols) {
+        return Math.abs(cell / cols - endRow) + Math.abs(cell % cols - endCol);
+    }
+}
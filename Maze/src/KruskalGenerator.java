@@ -0,0 +1,81 @@
+import java.util.Random;
+
+// Kruskal: semua dinding internal diacak, lalu dibuka jika dua sel di kedua sisinya
+// belum terhubung. Keterhubungan dicek dengan union-find (path compression + union by size).
+// Memori: 2 int per dinding + 2 int per sel.
+public class KruskalGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Kruskal"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        int n = grid.size();
+        int rows = grid.rows, cols = grid.cols;
+
+        // Edge id = cell * 2 + (0 = dinding kanan, 1 = dinding bawah)
+        int edgeCount = (cols - 1) * rows + (rows - 1) * cols;
+        int[] edges = new int[edgeCount];
+        int e = 0;
+        for (int i = 0; i < n; i++) {
+            if (i % cols < cols - 1) edges[e++] = i << 1;
+            if (i < n - cols) edges[e++] = (i << 1) | 1;
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = edgeCount - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int t = edges[i];
+            edges[i] = edges[j];
+            edges[j] = t;
+        }
+
+        UnionFind sets = new UnionFind(n);
+        int joined = 0;
+        for (int k = 0; k < edgeCount && joined < n - 1; k++) {
+            int cell = edges[k] >>> 1;
+            int dir = (edges[k] & 1) == 0 ? MazeGrid.RIGHT : MazeGrid.BOTTOM;
+            int other = grid.neighbor(cell, dir);
+            if (sets.union(cell, other)) {
+                grid.carve(cell, dir);
+                grid.setVisited(cell, true);
+                grid.setVisited(other, true);
+                joined++;
+                if (listener != null) listener.onGenerateStep(cell);
+            }
+        }
+    }
+
+    // Disjoint set dengan path compression (halving) dan union by size
+    static final class UnionFind {
+        private final int[] parent;
+        private final int[] size;
+
+        UnionFind(int n) {
+            parent = new int[n];
+            size = new int[n];
+            for (int i = 0; i < n; i++) {
+                parent[i] = i;
+                size[i] = 1;
+            }
+        }
+
+        int find(int x) {
+            while (parent[x] != x) {
+                parent[x] = parent[parent[x]];
+                x = parent[x];
+            }
+            return x;
+        }
+
+        // True jika a dan b sebelumnya berada di set berbeda
+        boolean union(int a, int b) {
+            int ra = find(a), rb = find(b);
+            if (ra == rb) return false;
+            if (size[ra] < size[rb]) { int t = ra; ra = rb; rb = t; }
+            parent[rb] = ra;
+            size[ra] += size[rb];
+            return true;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Index landmark untuk heuristik ALT (A*, Landmarks, Triangle inequality).
+// Untuk setiap landmark L disimpan jarak d(L, v) ke semua sel. Karena biaya di maze ini adalah
+// biaya MASUK ke sel, jarak balik bisa diturunkan tanpa Dijkstra kedua:
+//     d(v, L) = d(L, v) - cost(v) + cost(L)
+// sehingga batas bawah d(v, t) = max_L max(d(L,t) - d(L,v), d(L,v) - d(L,t) - cost(v) + cost(t)).
+// Landmark dipilih merata di keliling grid; Dijkstra per landmark dijalankan paralel.
+// Index bisa disimpan ke file dan dimuat lagi selama isi maze sama (dicek lewat contentHash).
+public class LandmarkIndex {
+
+    static final int MAGIC = 0x4D5A4C4D; // "MZLM"
+    static final int VERSION = 1;
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final MazeModel model;
+    private final int modelVersion;
+    private final long contentHash;
+    final int[] landmarks;
+    final int[][] dist;   // dist[k][v] = d(landmark k, v)
+
+    private LandmarkIndex(MazeModel model, long contentHash, int[] landmarks, int[][] dist) {
+        this.model = model;
+        this.modelVersion = model.getVersion();
+        this.contentHash = contentHash;
+        this.landmarks = landmarks;
+        this.dist = dist;
+    }
+
+    public int size() { return landmarks.length; }
+
+    public boolean isCurrent(MazeModel m) {
+        return m == model && m.getVersion() == modelVersion;
+    }
+
+    public long memoryBytes() {
+        return (long) landmarks.length * model.getGrid().size() * Integer.BYTES;
+    }
+
+    // --- Build ---
+
+    public static LandmarkIndex build(MazeModel model, int count, ExecutorService pool) {
+        MazeGrid grid = model.getGrid();
+        int[] landmarks = pickPerimeter(grid, count);
+        int[][] dist = new int[landmarks.length][];
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int k = 0; k < landmarks.length; k++) {
+            int idx = k;
+            futures.add(pool.submit(() -> dist[idx] = distancesFrom(model, landmarks[idx])));
+        }
+        try {
+            for (Future<?> f : futures) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Landmark preprocessing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Landmark preprocessing failed", e.getCause());
+        }
+        return new LandmarkIndex(model, model.contentHash(), landmarks, dist);
+    }
+
+    // Sel-sel di keliling grid dengan jarak keliling yang sama (mulai dari pojok kiri atas)
+    static int[] pickPerimeter(MazeGrid grid, int count) {
+        int rows = grid.rows, cols = grid.cols;
+        long perimeter = rows == 1 || cols == 1 ? (long) rows * cols : 2L * (rows + cols) - 4;
+        count = (int) Math.max(1, Math.min(count, perimeter));
+        int[] picked = new int[count];
+        for (int k = 0; k < count; k++) {
+            long p = perimeter * k / count;
+            int r, c;
+            if (rows == 1 || cols == 1) { r = (int) (rows == 1 ? 0 : p); c = (int) (rows == 1 ? p : 0); }
+            else if (p < cols) { r = 0; c = (int) p; }
+            else if ((p -= cols) < rows - 1) { r = (int) p + 1; c = cols - 1; }
+            else if ((p -= rows - 1) < cols - 1) { r = rows - 1; c = cols - 2 - (int) p; }
+            else { p -= cols - 1; r = rows - 2 - (int) p; c = 0; }
+            picked[k] = grid.index(r, c);
+        }
+        return picked;
+    }
+
+    // Dijkstra penuh dari source ke semua sel
+    static int[] distancesFrom(MazeModel model, int source) {
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        int[] dist = new int[n];
+        Arrays.fill(dist, UNREACHABLE);
+        int[] offsets = new int[4];
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        dist[source] = 0;
+        heap.pushOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            int du = dist[u];
+            int open = grid.openMask(u);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int v = u + offsets[d];
+                int nd = du + model.cost(v);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    heap.pushOrDecrease(v, nd);
+                }
+            }
+        }
+        return dist;
+    }
+
+    // --- Heuristik ---
+
+    // Batas bawah biaya dari v ke target (target = sel tujuan query)
+    public int lowerBound(int v, int target) {
+        int cv = model.cost(v), ct = model.cost(target);
+        int best = 0;
+        for (int[] d : dist) {
+            int dv = d[v], dt = d[target];
+            if (dv == UNREACHABLE || dt == UNREACHABLE) continue;
+            int forward = dt - dv;
+            int backward = dv - dt - cv + ct;
+            if (forward > best) best = forward;
+            if (backward > best) best = backward;
+        }
+        return best;
+    }
+
+    // --- Simpan / Muat ---
+    // Format: magic, version, rows, cols, contentHash (long), count, landmarks[count], dist[count][n]
+
+    public void save(Path path) throws IOException {
+        MazeGrid grid = model.getGrid();
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(28 + 4 * landmarks.length).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(grid.rows).putInt(grid.cols)
+                    .putLong(contentHash).putInt(landmarks.length);
+            for (int l : landmarks) header.putInt(l);
+            header.flip();
+            writeFully(ch, header);
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            for (int[] d : dist) {
+                for (int i = 0; i < d.length; ) {
+                    int len = Math.min(d.length - i, buf.capacity() / Integer.BYTES);
+                    buf.clear();
+                    buf.asIntBuffer().put(d, i, len);
+                    buf.limit(len * Integer.BYTES);
+                    writeFully(ch, buf);
+                    i += len;
+                }
+            }
+        }
+    }
+
+    // Muat index dari file; gagal jika file dibuat untuk maze lain
+    public static LandmarkIndex load(Path path, MazeModel model) throws IOException {
+        MazeGrid grid = model.getGrid();
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(28).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(ch, header);
+            header.flip();
+            if (header.getInt() != MAGIC) throw new IOException("Not a landmark index file");
+            int version = header.getInt();
+            if (version != VERSION) throw new IOException("Unsupported landmark index version " + version);
+            int rows = header.getInt(), cols = header.getInt();
+            long hash = header.getLong();
+            int count = header.getInt();
+            if (rows != grid.rows || cols != grid.cols || hash != model.contentHash()) {
+                throw new IOException("Landmark index does not match this maze");
+            }
+            int n = grid.size();
+            if (count <= 0 || count > (ch.size() - 28) / (4 + 4L * n)) {
+                throw new IOException("Invalid landmark count " + count);
+            }
+
+            ByteBuffer lm = ByteBuffer.allocate(4 * count).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(ch, lm);
+            lm.flip();
+            int[] landmarks = new int[count];
+            lm.asIntBuffer().get(landmarks);
+            for (int l : landmarks) {
+                if (l < 0 || l >= n) throw new IOException("Invalid landmark cell " + l);
+            }
+
+            int[][] dist = new int[count][n];
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            for (int[] d : dist) {
+                for (int i = 0; i < n; ) {
+                    int len = Math.min(n - i, buf.capacity() / Integer.BYTES);
+                    buf.clear().limit(len * Integer.BYTES);
+                    readFully(ch, buf);
+                    buf.flip();
+                    buf.asIntBuffer().get(d, i, len);
+                    i += len;
+                }
+            }
+            return new LandmarkIndex(model, hash, landmarks, dist);
+        }
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+
+    private static void readFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (ch.read(buf) < 0) throw new IOException("Unexpected end of landmark index file");
+        }
+    }
+}
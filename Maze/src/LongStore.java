@@ -0,0 +1,110 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+
+// Penyimpanan array long yang bisa di heap (long[]), off-heap (direct buffer) atau file yang di-map.
+// Index memakai long supaya grid yang lebih besar dari 2^31 word tetap bisa dialamatkan.
+public interface LongStore {
+
+    long size();
+
+    long get(long index);
+
+    void set(long index, long value);
+
+    void fill(long value);
+
+    // Perkiraan byte yang dipakai oleh storage ini
+    default long bytes() {
+        return size() * Long.BYTES;
+    }
+
+    static LongStore heap(long words) {
+        if (words > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Too many words for heap store: " + words);
+        return new HeapStore(new long[(int) words]);
+    }
+
+    static LongStore offHeap(long words) {
+        return ChunkedBufferStore.allocateDirect(words);
+    }
+
+    // Map words long dari file mulai byte offset (little-endian), satu mapping per chunk 1 GB.
+    // Dengan MapMode.PRIVATE halaman dipakai bersama antar proses sampai ada yang menulis (copy-on-write).
+    static LongStore mapped(FileChannel channel, FileChannel.MapMode mode, long offset, long words) throws java.io.IOException {
+        return ChunkedBufferStore.map(channel, mode, offset, words);
+    }
+
+    // --- Implementasi Heap ---
+    final class HeapStore implements LongStore {
+        private final long[] data;
+
+        HeapStore(long[] data) {
+            this.data = data;
+        }
+
+        @Override public long size() { return data.length; }
+        @Override public long get(long index) { return data[(int) index]; }
+        @Override public void set(long index, long value) { data[(int) index] = value; }
+        @Override public void fill(long value) { java.util.Arrays.fill(data, value); }
+    }
+
+    // --- Implementasi Off-Heap (dipotong per chunk karena ByteBuffer maksimal 2 GB) ---
+    final class ChunkedBufferStore implements LongStore {
+        static final int CHUNK_SHIFT = 27;                 // 2^27 long = 1 GB per chunk
+        static final long CHUNK_WORDS = 1L << CHUNK_SHIFT;
+        static final long CHUNK_MASK = CHUNK_WORDS - 1;
+
+        private final LongBuffer[] chunks;
+        private final long size;
+
+        ChunkedBufferStore(LongBuffer[] chunks, long size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        static ChunkedBufferStore allocateDirect(long words) {
+            int n = (int) ((words + CHUNK_WORDS - 1) >>> CHUNK_SHIFT);
+            LongBuffer[] chunks = new LongBuffer[Math.max(1, n)];
+            long remaining = words;
+            for (int i = 0; i < chunks.length; i++) {
+                int len = (int) Math.min(remaining, CHUNK_WORDS);
+                chunks[i] = ByteBuffer.allocateDirect(len * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+                remaining -= len;
+            }
+            return new ChunkedBufferStore(chunks, words);
+        }
+
+        static ChunkedBufferStore map(FileChannel channel, FileChannel.MapMode mode, long offset, long words) throws java.io.IOException {
+            int n = (int) ((words + CHUNK_WORDS - 1) >>> CHUNK_SHIFT);
+            LongBuffer[] chunks = new LongBuffer[Math.max(1, n)];
+            long remaining = words;
+            for (int i = 0; i < chunks.length; i++) {
+                int len = (int) Math.min(remaining, CHUNK_WORDS);
+                long pos = offset + ((long) i << CHUNK_SHIFT) * Long.BYTES;
+                chunks[i] = channel.map(mode, pos, (long) len * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                remaining -= len;
+            }
+            return new ChunkedBufferStore(chunks, words);
+        }
+
+        @Override public long size() { return size; }
+
+        @Override
+        public long get(long index) {
+            return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK));
+        }
+
+        @Override
+        public void set(long index, long value) {
+            chunks[(int) (index >>> CHUNK_SHIFT)].put((int) (index & CHUNK_MASK), value);
+        }
+
+        @Override
+        public void fill(long value) {
+            for (LongBuffer chunk : chunks) {
+                for (int i = 0, n = chunk.limit(); i < n; i++) chunk.put(i, value);
+            }
+        }
+    }
+}
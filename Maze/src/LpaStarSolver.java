@@ -0,0 +1,162 @@
+import java.util.Arrays;
+
+// Lifelong Planning A* (LPA*, Koenig & Likhachev): A* yang menyimpan g / rhs semua sel antar solve,
+// jadi setelah edit kecil (dinding dibuka / ditutup, biaya terrain diubah) hanya sel yang terdampak
+// yang diekspansi ulang, bukan seluruh pencarian.
+//  - g(u)   : jarak dari start yang sudah "dipercaya"
+//  - rhs(u) : cost(u) + min g(tetangga terbuka)   (rhs(start) = 0)
+//  - sel dengan g != rhs (tidak konsisten) ada di heap dengan key [min(g, rhs) + h; min(g, rhs)]
+// Model memanggil wallChanged / costChanged (MazeEditListener) setelah setiap edit; solve berikutnya hanya memperbaiki.
+// Jika model berubah dengan cara lain (generate ulang, load, start / end lain), solve mulai dari awal.
+public class LpaStarSolver implements MazeSolver, MazeEditListener {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private int capacity = -1;
+    private int[] g, rhs;
+    private IndexedLongHeap heap;
+    private final int[] offsets = new int[4];
+
+    // Maze tempat g / rhs berlaku (null = belum pernah solve atau sudah tidak sinkron)
+    private MazeModel synced;
+    private int syncedVersion, start, end, endRow, endCol, cols;
+
+    @Override
+    public String name() { return "LPA* (incremental)"; }
+
+    private void ensureCapacity(int n) {
+        if (capacity == n) return;
+        capacity = n;
+        g = new int[n];
+        rhs = new int[n];
+        heap = new IndexedLongHeap(n);
+    }
+
+    // True jika g / rhs masih berlaku untuk maze ini (solve berikutnya cukup memperbaiki)
+    public boolean isSynced(MazeModel model) {
+        return synced == model && syncedVersion == model.getVersion();
+    }
+
+    // --- Notifikasi edit (dipanggil model setelah grid / terrain diubah dan version dinaikkan) ---
+
+    @Override
+    public void wallChanged(MazeModel model, int a, int b) {
+        if (!acceptEdit(model)) return;
+        updateVertex(model, a);
+        updateVertex(model, b);
+    }
+
+    // Biaya masuk ke sel berubah: hanya rhs sel itu sendiri yang bergantung padanya
+    @Override
+    public void costChanged(MazeModel model, int cell) {
+        if (!acceptEdit(model)) return;
+        updateVertex(model, cell);
+    }
+
+    // Edit hanya bisa diterapkan jika kita sinkron dengan versi tepat sebelum edit ini
+    private boolean acceptEdit(MazeModel model) {
+        if (synced != model || syncedVersion != model.getVersion() - 1) {
+            synced = null;
+            return false;
+        }
+        syncedVersion = model.getVersion();
+        return true;
+    }
+
+    @Override
+    public SolveResult solve(MazeModel model, int start, int end, MazeListener trace) {
+        long t0 = System.nanoTime();
+        MazeGrid grid = model.getGrid();
+        int n = grid.size();
+        if (!isSynced(model) || start != this.start || end != this.end || capacity != n) {
+            initialize(model, start, end);
+        }
+
+        int expanded = computeShortestPath(model, grid, trace);
+
+        int[] path = new int[0];
+        boolean found = g[end] != INF;
+        if (found) path = extractPath(grid);
+        return new SolveResult(name(), found, true, expanded, n, found ? g[end] : -1, path, System.nanoTime() - t0);
+    }
+
+    private void initialize(MazeModel model, int start, int end) {
+        MazeGrid grid = model.getGrid();
+        ensureCapacity(grid.size());
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        heap.clear();
+        this.start = start;
+        this.end = end;
+        cols = grid.cols;
+        endRow = grid.row(end);
+        endCol = grid.col(end);
+        for (int d = 0; d < 4; d++) offsets[d] = grid.offset(d);
+        rhs[start] = 0;
+        heap.pushOrUpdate(start, key(start));
+        synced = model;
+        syncedVersion = model.getVersion();
+    }
+
+    private int computeShortestPath(MazeModel model, MazeGrid grid, MazeListener trace) {
+        int expanded = 0;
+        while (!heap.isEmpty() && (heap.peekKey() < key(end) || rhs[end] != g[end])) {
+            int u = heap.poll();
+            expanded++;
+            if (trace != null) trace.onExpand(u, heap.size());
+
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u]; // jadi konsisten (lebih pendek dari sebelumnya)
+            } else {
+                g[u] = INF;    // jalur lama terputus / lebih mahal: hitung ulang u dan tetangganya
+                updateVertex(model, u);
+            }
+            int open = grid.openMask(u);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) != 0) updateVertex(model, u + offsets[d]);
+            }
+        }
+        return expanded;
+    }
+
+    private void updateVertex(MazeModel model, int u) {
+        if (u != start) {
+            int best = INF;
+            int open = model.getGrid().openMask(u);
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int gp = g[u + offsets[d]];
+                if (gp < best) best = gp;
+            }
+            rhs[u] = best == INF ? INF : best + model.cost(u);
+        }
+        if (g[u] != rhs[u]) heap.pushOrUpdate(u, key(u));
+        else heap.remove(u);
+    }
+
+    private long key(int u) {
+        int m = Math.min(g[u], rhs[u]);
+        if (m == INF) return Long.MAX_VALUE;
+        int h = Math.abs(u / cols - endRow) + Math.abs(u % cols - endCol);
+        return ((long) (m + h) << 32) | m;
+    }
+
+    // Dari end mundur ke tetangga dengan g terkecil (g(p) + cost(u) = g(u) untuk sel di jalur terpendek)
+    private int[] extractPath(MazeGrid grid) {
+        IntList list = new IntList();
+        int u = end;
+        list.add(u);
+        while (u != start) {
+            int open = grid.openMask(u), best = -1;
+            for (int d = 0; d < 4; d++) {
+                if ((open & (1 << d)) == 0) continue;
+                int p = u + offsets[d];
+                if (best < 0 || g[p] < g[best]) best = p;
+            }
+            u = best;
+            list.add(u);
+        }
+        list.reverse();
+        return list.toArray();
+    }
+}
@@ -1,14 +1,24 @@
 import javax.swing.*;
 import java.awt.*;
-import java.util.*;
-import java.util.List;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+// Tampilan (view) untuk MazeModel. Logika maze ada di model; panel ini hanya observer
+// yang menganimasikan langkah-langkah model dan menjalankannya di thread terpisah.
+// Worker tidak pernah menyentuh Swing dan tidak pernah menunggu EDT: event dikirim lewat RenderEventRing
+// (offer, dibuang jika penuh), lalu EDT menguras ring sekali per frame (Timer ~60 Hz), menerapkan event ke
+// state tampilan sendiri (shownSearch / shownPath / shownWalls) dan memanggil repaint satu kali per frame.
+// Tempo animasi hanya diatur di sisi EDT, jadi kecepatan solver & waktu yang diukur tidak ikut tertahan.
 public class Maze extends JPanel {
 
-    // --- Konfigurasi Logika ---
-    protected final int COLS = 40;
-    protected final int ROWS = 30;
+    // --- Konfigurasi Default ---
+    public static final int DEFAULT_COLS = 40;
+    public static final int DEFAULT_ROWS = 30;
 
     // Variabel Rendering
     protected int cellSize;
@@ -18,10 +28,14 @@ public class Maze extends JPanel {
     // Callback untuk update statistik ke UI
     protected Consumer<String> statsCallback;
 
-    // Kecepatan Animasi
+    // Kecepatan Animasi (ms per langkah saat replay di EDT, bukan sleep / backpressure di worker)
     protected final int SOLVE_DELAY = 10;
     protected final int PATH_DELAY = 25;
     protected final int GEN_BATCH = 15;
+    protected static final int FRAME_MS = 16;
+
+    // Jenis event di ring (4 bit bawah kind; EV_GENERATE membawa nibble dinding sel di bit 4..7)
+    protected static final int EV_GENERATE = 0, EV_VISIT = 1, EV_PATH = 2;
 
     // Warna & Style
     protected final Color COLOR_BG = new Color(30, 30, 30);
@@ -33,258 +47,746 @@ public class Maze extends JPanel {
 
     protected final Stroke STROKE_WALL = new BasicStroke(3);
     protected final Stroke STROKE_PATH = new BasicStroke(6);
-
-    // --- Struktur Data ---
-    protected Cell[][] grid;
-    protected Cell startCell, endCell;
-    protected List<Cell> finalPath;
-
-    protected boolean isGenerating = false;
-    protected boolean isSolving = false;
+    protected final Stroke STROKE_WALL_THIN = new BasicStroke(1);
+
+    // --- Model ---
+    protected final MazeModel model;
+
+    protected volatile boolean isGenerating = false;
+    protected volatile boolean isSolving = false;
+
+    // Pengaturan animasi untuk run yang sedang berjalan
+    protected volatile boolean animate = true;
+    private boolean animateRun;
+    private long genStepNanos, visitStepNanos, pathStepNanos;
+
+    // --- Pipeline Render ---
+    // Jika ring penuh, sisa event run itu dibuang (eventsDropped) dan tampilan disalin dari model sekali saat
+    // run selesai; replay yang cocok di ring tetap dianimasikan penuh
+    protected static final int RING_CAPACITY = 1 << 16;
+    protected final RenderEventRing events = new RenderEventRing(RING_CAPACITY);
+    private volatile boolean eventsDropped, runFinished;
+    // Statistik terbaru dari worker (teks lama yang belum sempat tampil ditimpa)
+    private final AtomicReference<String> pendingStats = new AtomicReference<>();
+    protected final BitSet shownSearch = new BitSet();
+    protected final IntList shownPath = new IntList();
+    // Dinding versi tampilan selama generate (layout nibble sama dengan MazeGrid), hanya diubah EDT lewat event.
+    // Grid model sedang ditulis worker, jadi EDT tidak membacanya sampai run selesai.
+    private long[] shownWalls;
+    // Sel visit yang diterapkan di frame ini, digambar ke tile sekaligus di akhir frame
+    private final IntList frameScan = new IntList();
+    private final AnimationListener animation = new AnimationListener();
+    private final Timer frameTimer = new Timer(FRAME_MS, e -> drainFrame());
+    private long lastFrameNanos;
+    private long replayCredit;
+    // Run yang sedang berjalan di Workers.POOL (dibatalkan lewat cancelRun)
+    private Future<?> currentRun;
 
     public Maze() {
+        this(new MazeModel(DEFAULT_ROWS, DEFAULT_COLS));
+    }
+
+    public Maze(MazeModel model) {
+        this.model = model;
         setBackground(COLOR_BG);
-        setupGrid();
+        model.setListener(animation);
+        NavigationHandler nav = new NavigationHandler();
+        addMouseListener(nav);
+        addMouseMotionListener(nav);
+        addMouseWheelListener(nav);
+    }
+
+    public MazeModel getModel() {
+        return model;
     }
 
     public void setStatsCallback(Consumer<String> callback) {
         this.statsCallback = callback;
     }
 
-    protected class Cell {
-        int r, c;
-        boolean[] walls = {true, true, true, true};
-        boolean visited = false;
-        boolean searchVisited = false;
-        Cell parent = null;
+    // Animasi bisa dimatikan untuk maze besar (model tetap jalan penuh kecepatan)
+    public void setAnimate(boolean animate) {
+        this.animate = animate;
+    }
+
+    public void setMazeSize(int rows, int cols) {
+        if (isGenerating || isSolving) return;
+        model.resize(rows, cols, false);
+        clearShown();
+        fitToView = true;
+        repaint();
+    }
 
-        public Cell(int r, int c) {
-            this.r = r;
-            this.c = c;
+    // --- Simpan / Buka (MazeFile) ---
+
+    public void saveMaze(java.nio.file.Path path) {
+        if (isGenerating || isSolving) return;
+        try {
+            MazeFile.save(model, path);
+            if (statsCallback != null) {
+                statsCallback.accept("Maze saved:\n" + path.getFileName()
+                        + (model instanceof WeightedMazeModel w && w.hasLandmarkIndex() ? "\nLandmark index saved" : ""));
+            }
+        } catch (java.io.IOException | RuntimeException | InternalError e) {
+            // InternalError: akses memori ke file map yang rusak / terpotong dari luar
+            if (statsCallback != null) statsCallback.accept("Save failed:\n" + e.getMessage());
         }
     }
 
-    protected void setupGrid() {
-        grid = new Cell[ROWS][COLS];
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                grid[r][c] = new Cell(r, c);
+    // File di-map (tanpa menyalin isi), jadi maze besar pun langsung tampil
+    public void loadMaze(java.nio.file.Path path) {
+        if (isGenerating || isSolving) return;
+        try {
+            MazeFile.Header h = MazeFile.load(path, model);
+            clearShown();
+            fitToView = true;
+            repaint();
+            if (statsCallback != null) {
+                statsCallback.accept("Maze loaded: " + h.rows() + " x " + h.cols()
+                        + (h.hasSeed() ? "\nSeed: " + h.seed() : "")
+                        + (h.generatorName().isEmpty() ? "" : "\nGenerator: " + h.generatorName())
+                        + (model instanceof WeightedMazeModel w && w.hasLandmarkIndex() ? "\nLandmark index loaded" : ""));
             }
+        } catch (java.io.IOException e) {
+            if (statsCallback != null) statsCallback.accept("Load failed:\n" + e.getMessage());
         }
-        startCell = grid[0][0];
-        endCell = grid[ROWS - 1][COLS - 1];
-        finalPath = new ArrayList<>();
-        repaint();
     }
 
     public void generatePrim() {
+        runGenerator(model::generatePrim);
+    }
+
+    public void generate(MazeGenerator generator) {
+        runGenerator(() -> model.generate(generator));
+    }
+
+    public void solve(boolean useBFS) {
+        runSolver(1, SOLVE_DELAY, PATH_DELAY, () -> model.solve(useBFS));
+    }
+
+    public void solve(MazeSolver solver) {
+        runSolver(1, SOLVE_DELAY, PATH_DELAY, () -> model.solve(solver));
+    }
+
+    public void solveDeadEndFill() {
+        runSolver(1, SOLVE_DELAY, PATH_DELAY, model::solveDeadEndFill);
+    }
+
+    // Hentikan generate / solve yang sedang berjalan (berhenti di titik batal berikutnya)
+    public void cancelRun() {
+        if (currentRun != null) currentRun.cancel(true);
+    }
+
+    // Salinan maze untuk race mode, atau null selama generate (maze belum selesai).
+    // Solve yang sedang berjalan tidak mengubah dinding, jadi tetap boleh.
+    public MazeModel snapshot() {
+        if (isGenerating) return null;
+        return model.snapshot();
+    }
+
+    protected void runGenerator(Runnable task) {
         if (isGenerating || isSolving) return;
-        setupGrid();
         isGenerating = true;
         if (statsCallback != null) statsCallback.accept("Generating Maze...");
+        genStepNanos = 1_000_000L / GEN_BATCH;
+        startRun(task, animate, true);
+    }
 
-        new Thread(() -> {
-            ArrayList<Cell> frontier = new ArrayList<>();
-            Random rand = new Random();
-            startCell.visited = true;
-            addFrontier(startCell, frontier);
-
-            int loop = 0;
-            while (!frontier.isEmpty()) {
-                Cell current = frontier.remove(rand.nextInt(frontier.size()));
-                List<Cell> neighbors = getNeighbors(current, true);
-                if (!neighbors.isEmpty()) {
-                    Cell neighbor = neighbors.get(rand.nextInt(neighbors.size()));
-                    removeWalls(current, neighbor);
-                    current.visited = true;
-                    addFrontier(current, frontier);
-                    if(++loop % GEN_BATCH == 0) visualize(1);
-                }
-            }
-            grid[0][0].walls[3] = false;
-            grid[ROWS-1][COLS-1].walls[1] = false;
-            isGenerating = false;
-            if (statsCallback != null) statsCallback.accept("Maze Generated.\nReady to solve.");
-            repaint();
-        }).start();
+    protected void runSolver(int batch, int delay, int pDelay, Supplier<SolveResult> task) {
+        if (isGenerating || isSolving) return;
+        isSolving = true;
+        visitStepNanos = delay * 1_000_000L / batch;
+        pathStepNanos = pDelay * 1_000_000L;
+        startRun(task::get, animate, false);
     }
 
-    public void solve(boolean useBFS) {
+    // Tugas model tanpa event langkah (mis. flow field): hasil akhir disalin dari model saat selesai
+    protected void runTask(Runnable task) {
         if (isGenerating || isSolving) return;
-        resetSolver();
         isSolving = true;
-        String algoName = useBFS ? "BFS" : "DFS";
-        if (statsCallback != null) statsCallback.accept("Running " + algoName + "...");
-
-        new Thread(() -> {
-            LinkedList<Cell> list = new LinkedList<>();
-            list.add(startCell);
-            startCell.searchVisited = true;
-            boolean found = false;
-            int nodesVisited = 0;
-
-            while (!list.isEmpty()) {
-                Cell current = useBFS ? list.poll() : list.removeLast();
-                nodesVisited++;
-
-                if (current == endCell) {
-                    found = true;
-                    break;
-                }
+        startRun(task, false, false);
+    }
 
-                for (Cell next : getConnectedNeighbors(current)) {
-                    if (!next.searchVisited) {
-                        next.searchVisited = true;
-                        next.parent = current;
-                        list.add(next);
-                    }
-                }
-                visualize(SOLVE_DELAY);
+    // Dipanggil di EDT: reset state tampilan, jalankan worker, mulai timer frame.
+    // Generate: tampilan mulai dari grid tertutup semua (sama dengan reset di awal generate model).
+    private void startRun(Runnable task, boolean animated, boolean generating) {
+        animateRun = animated;
+        events.clear();
+        eventsDropped = false;
+        runFinished = false;
+        pendingStats.set(null);
+        clearShown();
+        shownWalls = null;
+        animation.published = null;
+        if (generating) {
+            shownWalls = new long[(int) MazeGrid.wallWords(model.getGrid().size())];
+            java.util.Arrays.fill(shownWalls, -1L);
+            if (animated) {
+                animation.published = shownWalls.clone();
+                animation.scanAll = true;
             }
-
-            if (found) {
-                reconstructPath(endCell);
-                // Update Statistik ke Panel Samping (Bukan Popup)
-                String result = String.format("""
-                    Algorithm: %s
-                    ----------------
-                    Status: Finished
-                    Nodes Visited: %d
-                    Path Found: Yes
-                    (Unweighted)
-                    """, algoName, nodesVisited);
-
-                if (statsCallback != null) statsCallback.accept(result);
-            } else {
-                if (statsCallback != null) statsCallback.accept(algoName + " Failed to find path.");
+        }
+        replayCredit = 0;
+        lastFrameNanos = System.nanoTime();
+        frameTimer.start();
+        currentRun = Workers.POOL.submit(() -> {
+            try {
+                task.run();
+            } catch (CancellationException e) {
+                Thread.interrupted();
+                pendingStats.set("Cancelled.");
+            } finally {
+                runFinished = true;
             }
-            isSolving = false;
-            repaint();
-        }).start();
+        });
     }
 
-    protected void addFrontier(Cell cell, ArrayList<Cell> frontier) {
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for(int[] d : dirs) {
-            int nr = cell.r + d[0], nc = cell.c + d[1];
-            if(isValid(nr, nc) && !grid[nr][nc].visited && !frontier.contains(grid[nr][nc]))
-                frontier.add(grid[nr][nc]);
-        }
+    protected void clearShown() {
+        shownSearch.clear();
+        shownPath.clear();
+        invalidateTiles();
     }
 
-    protected void removeWalls(Cell a, Cell b) {
-        int dr = a.r - b.r, dc = a.c - b.c;
-        if (dr == 1) { a.walls[0] = false; b.walls[2] = false; }
-        if (dr == -1){ a.walls[2] = false; b.walls[0] = false; }
-        if (dc == 1) { a.walls[3] = false; b.walls[1] = false; }
-        if (dc == -1){ a.walls[1] = false; b.walls[3] = false; }
+    // Worker: tulis event tanpa menunggu; ring penuh = sisa event run ini dibuang
+    private void publish(int kind, int cell) {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+        if (eventsDropped) return;
+        if (!events.offer(RenderEventRing.encode(kind, cell), null)) eventsDropped = true;
     }
 
-    protected List<Cell> getNeighbors(Cell c, boolean visitedState) {
-        List<Cell> list = new ArrayList<>();
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for(int[] d : dirs) {
-            int nr = c.r+d[0], nc = c.c+d[1];
-            if(isValid(nr, nc) && grid[nr][nc].visited == visitedState) list.add(grid[nr][nc]);
+    // Satu frame: tambah "kredit waktu" sebesar waktu sejak frame lalu, terapkan event selama kredit cukup
+    // (biaya per event = delay animasinya), gambar scan frame ini sekaligus, lalu repaint sekali.
+    // Event yang terbuang berarti replay tidak lengkap: ring dikosongkan dan hasil akhir disalin dari model.
+    private void drainFrame() {
+        boolean finished = runFinished; // dibaca dulu: event & statistik sebelum selesai sudah terlihat
+        String stats = pendingStats.getAndSet(null);
+        if (stats != null && statsCallback != null) statsCallback.accept(stats);
+
+        long now = System.nanoTime();
+        replayCredit = Math.min(replayCredit + (now - lastFrameNanos), 4L * FRAME_MS * 1_000_000L);
+        lastFrameNanos = now;
+
+        boolean changed = false;
+        if (eventsDropped) {
+            events.clear();
+        } else {
+            while (!events.isEmpty()) {
+                long e = events.peek();
+                int kind = RenderEventRing.kind(e);
+                long cost = stepNanos(kind & 15);
+                if (animateRun && cost > replayCredit) break;
+                replayCredit -= cost;
+                events.advance();
+                applyEvent(kind & 15, RenderEventRing.cell(e), kind >>> 4);
+                changed = true;
+            }
+            flushScan();
+        }
+        if (finished && (eventsDropped || events.isEmpty())) {
+            finishRun();
+            changed = true;
         }
-        return list;
+        if (changed) repaint();
     }
 
-    protected List<Cell> getConnectedNeighbors(Cell c) {
-        List<Cell> list = new ArrayList<>();
-        if (!c.walls[0] && isValid(c.r-1, c.c)) list.add(grid[c.r-1][c.c]);
-        if (!c.walls[1] && isValid(c.r, c.c+1)) list.add(grid[c.r][c.c+1]);
-        if (!c.walls[2] && isValid(c.r+1, c.c)) list.add(grid[c.r+1][c.c]);
-        if (!c.walls[3] && isValid(c.r, c.c-1)) list.add(grid[c.r][c.c-1]);
-        return list;
+    private long stepNanos(int kind) {
+        switch (kind) {
+            case EV_GENERATE: return genStepNanos;
+            case EV_VISIT:    return visitStepNanos;
+            case EV_PATH:     return pathStepNanos;
+            default:          return 0;
+        }
     }
 
-    protected boolean isValid(int r, int c) { return r >= 0 && r < ROWS && c >= 0 && c < COLS; }
+    protected void applyEvent(int kind, int cell, int data) {
+        switch (kind) {
+            case EV_VISIT:
+                if (!shownSearch.get(cell)) {
+                    shownSearch.set(cell);
+                    frameScan.add(cell);
+                }
+                break;
+            case EV_PATH:  shownPath.add(cell); break;
+            case EV_GENERATE:
+                if (shownWalls != null) {
+                    int shift = (cell & 15) << 2;
+                    shownWalls[cell >>> 4] = (shownWalls[cell >>> 4] & ~(0xFL << shift)) | ((long) data << shift);
+                }
+                invalidateCell(cell);
+                break;
+            default: break;
+        }
+    }
 
-    protected void resetSolver() {
-        finalPath.clear();
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
-                grid[r][c].searchVisited = false;
-                grid[r][c].parent = null;
-            }
+    // Run selesai (worker sudah keluar): tanpa replay lengkap, salin hasil akhir dari model sekali
+    private void finishRun() {
+        frameTimer.stop();
+        if (!animateRun || eventsDropped) syncShownFromModel();
+        if (shownWalls != null) {
+            shownWalls = null;
+            invalidateTiles();
         }
-        repaint();
+        events.clear();
+        isGenerating = false;
+        isSolving = false;
     }
 
-    protected void reconstructPath(Cell end) {
-        Cell temp = end;
-        while (temp != null) {
-            finalPath.add(temp);
-            temp = temp.parent;
-            visualize(PATH_DELAY);
+    private void syncShownFromModel() {
+        clearShown();
+        MazeGrid grid = model.getGrid();
+        for (int i = grid.nextSearched(0); i >= 0; i = grid.nextSearched(i + 1)) {
+            shownSearch.set(i);
         }
-        Collections.reverse(finalPath);
+        IntList path = model.getFinalPath();
+        for (int i = 0; i < path.size(); i++) shownPath.add(path.get(i));
+        invalidateTiles();
     }
 
-    protected void visualize(int delay) {
-        try { SwingUtilities.invokeLater(this::repaint); if(delay > 0) Thread.sleep(delay); } catch(Exception e){}
+    // Observer: menerjemahkan event model menjadi event di ring (dipanggil dari thread worker)
+    protected class AnimationListener implements MazeListener {
+        // Salinan dinding yang sudah dikirim ke EDT (milik worker selama generate, null jika tidak dianimasikan)
+        private long[] published;
+        // Langkah pertama membandingkan seluruh grid (TiledGenerator menyalin tile tanpa event sebelumnya)
+        private boolean scanAll;
+
+        // Generator tidak selalu mengubah sel yang dilaporkan saja (Sidewinder membuka sel lain di run-nya,
+        // Eller mengirim satu baris penuh), jadi baris sel itu +- 1 dibandingkan dengan salinan dan setiap
+        // nibble yang berubah dikirim beserta nilainya. Dinding dibaca di thread worker yang menulisnya.
+        @Override
+        public void onGenerateStep(int cell) {
+            long[] sent = published;
+            if (sent == null || eventsDropped) return;
+            MazeGrid grid = model.getGrid();
+            LongStore walls = grid.wallStore();
+            int r = grid.row(cell), n = grid.size();
+            int from = Math.max(0, r - 1) * grid.cols >>> 4;
+            int to = (int) Math.min(sent.length, MazeGrid.wallWords((long) Math.min(grid.rows, r + 2) * grid.cols));
+            if (scanAll) {
+                scanAll = false;
+                from = 0;
+                to = sent.length;
+            }
+            for (int w = from; w < to; w++) {
+                long now = walls.get(w), diff = now ^ sent[w];
+                if (diff == 0) continue;
+                sent[w] = now;
+                while (diff != 0) {
+                    int k = Long.numberOfTrailingZeros(diff) >>> 2;
+                    diff &= ~(0xFL << (k << 2));
+                    int c = (w << 4) + k;
+                    if (c < n) publish(EV_GENERATE | (int) (now >>> (k << 2) & 0xF) << 4, c);
+                }
+            }
+        }
+
+        @Override
+        public void onVisit(int cell) {
+            if (animateRun) publish(EV_VISIT, cell);
+        }
+
+        @Override
+        public void onPathStep(int cell) {
+            if (animateRun) publish(EV_PATH, cell);
+        }
+
+        @Override
+        public void onStats(String text) {
+            if (SwingUtilities.isEventDispatchThread()) {
+                if (statsCallback != null) statsCallback.accept(text);
+            } else {
+                pendingStats.set(text);
+            }
+        }
     }
 
+    // --- Viewport ---
+    // Mode fit: seluruh maze dimasukkan ke panel (seperti dulu). Setelah pan / zoom, cellSize & startX/startY
+    // dipegang user dan hanya tile yang terlihat yang digambar.
+    protected static final int MAX_CELL_SIZE = 128;
+    protected boolean fitToView = true;
+
     protected void calculateDimensions() {
+        if (!fitToView) return;
         int panelW = getWidth();
         int panelH = getHeight();
-        int cellW = panelW / COLS;
-        int cellH = panelH / ROWS;
+        int rows = model.getRows(), cols = model.getCols();
+        int cellW = panelW / cols;
+        int cellH = panelH / rows;
         cellSize = Math.max(1, Math.min(cellW, cellH));
-        startX = (panelW - (COLS * cellSize)) / 2;
-        startY = (panelH - (ROWS * cellSize)) / 2;
+        startX = (panelW - (cols * cellSize)) / 2;
+        startY = (panelH - (rows * cellSize)) / 2;
+    }
+
+    public void fitToView() {
+        fitToView = true;
+        repaint();
     }
 
+    public void panBy(int dx, int dy) {
+        fitToView = false;
+        startX += dx;
+        startY += dy;
+        repaint();
+    }
+
+    // Zoom dengan titik (px, py) di layar tetap di bawah kursor
+    public void zoomAt(int px, int py, boolean zoomIn) {
+        int next = zoomIn ? Math.min(MAX_CELL_SIZE, cellSize * 5 / 4 + 1) : Math.max(1, cellSize * 4 / 5);
+        if (next == cellSize) return;
+        fitToView = false;
+        startX = px - (int) ((long) (px - startX) * next / cellSize);
+        startY = py - (int) ((long) (py - startY) * next / cellSize);
+        cellSize = next;
+        repaint();
+    }
+
+    // Drag = geser, scroll = zoom, klik dua kali = kembali ke fit.
+    // Dengan alat edit aktif, tombol kiri mengedit (klik = dinding, drag = cat terrain), tombol lain tetap geser.
+    private class NavigationHandler extends java.awt.event.MouseAdapter {
+        private int lastX, lastY;
+        private boolean editing;
+
+        @Override
+        public void mousePressed(java.awt.event.MouseEvent e) {
+            lastX = e.getX();
+            lastY = e.getY();
+            editing = editTool != EditTool.NAVIGATE && SwingUtilities.isLeftMouseButton(e);
+            if (editing) editAt(e.getX(), e.getY());
+        }
+
+        @Override
+        public void mouseDragged(java.awt.event.MouseEvent e) {
+            if (editing) {
+                if (editTool.terrainCost > 0) editAt(e.getX(), e.getY());
+                return;
+            }
+            panBy(e.getX() - lastX, e.getY() - lastY);
+            lastX = e.getX();
+            lastY = e.getY();
+        }
+
+        @Override
+        public void mouseReleased(java.awt.event.MouseEvent e) {
+            if (editing) {
+                editing = false;
+                finishEdit();
+            }
+        }
+
+        @Override
+        public void mouseWheelMoved(java.awt.event.MouseWheelEvent e) {
+            zoomAt(e.getX(), e.getY(), e.getWheelRotation() < 0);
+        }
+
+        @Override
+        public void mouseClicked(java.awt.event.MouseEvent e) {
+            if (e.getClickCount() == 2 && editTool == EditTool.NAVIGATE) fitToView();
+        }
+    }
+
+    // --- Edit ---
+    // Klik membuka / menutup dinding terdekat, atau mengecat biaya terrain (WeightedMaze). Setelah tombol
+    // dilepas, path yang sedang tampil diperbaiki dengan LPA* (model.replan) tanpa animasi: hanya sel yang
+    // diekspansi ulang yang ditandai scan. Tile yang terdampak saja yang dirasterisasi ulang.
+    public enum EditTool {
+        NAVIGATE("Navigate", 0),
+        WALL("Toggle Walls", 0),
+        GRASS("Paint Grass (1)", WeightedMazeModel.COST_GRASS),
+        MUD("Paint Mud (5)", WeightedMazeModel.COST_MUD),
+        WATER("Paint Water (10)", WeightedMazeModel.COST_WATER);
+
+        public final String label;
+        public final int terrainCost;
+
+        EditTool(String label, int terrainCost) {
+            this.label = label;
+            this.terrainCost = terrainCost;
+        }
+    }
+
+    protected EditTool editTool = EditTool.NAVIGATE;
+    private boolean edited;
+
+    public void setEditTool(EditTool tool) {
+        this.editTool = tool;
+    }
+
+    private void editAt(int px, int py) {
+        if (isGenerating || isSolving || cellSize <= 0) return;
+        MazeGrid grid = model.getGrid();
+        int c = Math.floorDiv(px - startX, cellSize), r = Math.floorDiv(py - startY, cellSize);
+        if (!grid.isValid(r, c)) return;
+        int cell = grid.index(r, c);
+
+        boolean tilesFresh = tileVersion == model.getVersion();
+        try {
+            if (!editCell(cell, px - startX - c * cellSize, py - startY - r * cellSize)) return;
+        } catch (java.nio.ReadOnlyBufferException e) {
+            // Maze dari file yang dibuka read-only
+            if (statsCallback != null) statsCallback.accept("Maze is read-only.");
+            return;
+        }
+        edited = true;
+        if (tilesFresh) {
+            // Hanya tile di sekitar sel (dan tetangganya, karena dinding digambar dari kedua sisi) yang dibuang
+            tileVersion = model.getVersion();
+            invalidateCell(cell);
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.neighbor(cell, d);
+                if (nb >= 0) invalidateCell(nb);
+            }
+        }
+        repaint();
+    }
+
+    // Hook edit satu sel; (fx, fy) = posisi klik di dalam sel. Maze biasa: dinding terdekat dari titik klik.
+    protected boolean editCell(int cell, int fx, int fy) {
+        if (editTool != EditTool.WALL) return false;
+        int dir = MazeGrid.TOP, best = fy;
+        if (cellSize - fx < best) { dir = MazeGrid.RIGHT; best = cellSize - fx; }
+        if (cellSize - fy < best) { dir = MazeGrid.BOTTOM; best = cellSize - fy; }
+        if (fx < best) dir = MazeGrid.LEFT;
+        return model.toggleWall(cell, dir);
+    }
+
+    // Tombol dilepas: perbaiki path yang sedang tampil (atau yang terakhir dicari LPA*)
+    private void finishEdit() {
+        if (!edited || isGenerating || isSolving) return;
+        edited = false;
+        if (model.getFinalPath().isEmpty() && !model.getPlanner().isSynced(model)) return;
+        isSolving = true;
+        startRun(model::replan, false, false);
+    }
+
+    // --- Rendering Tile ---
+    // Maze dibagi tile TILE_PX x TILE_PX piksel (koordinat dunia: sel (r, c) di (c * cellSize, r * cellSize)).
+    // Tile berisi background, terrain, dinding dan overlay scan; dirasterisasi saat pertama terlihat lalu
+    // disimpan di TileCache (LRU). Cache dikosongkan saat versi model atau zoom berubah; event generate
+    // hanya membuang tile di sekitar sel itu, event visit digambar ke tile yang ada di cache di akhir frame.
+    // Start / end dan path digambar langsung tiap frame (hanya segmen yang terlihat).
+    protected static final int TILE_PX = 256;
+    private final TileCache tiles = new TileCache(TILE_PX, 192);
+    private int tileVersion = -1, tileCellSize;
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         calculateDimensions();
+        validateTiles();
+
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int worldW = model.getCols() * cellSize, worldH = model.getRows() * cellSize;
+        // Margin 2 px untuk garis dinding di tepi luar maze
+        int tx0 = Math.floorDiv(Math.max(clip.x - startX, -2), TILE_PX);
+        int tx1 = Math.floorDiv(Math.min(clip.x + clip.width - startX, worldW + 2), TILE_PX);
+        int ty0 = Math.floorDiv(Math.max(clip.y - startY, -2), TILE_PX);
+        int ty1 = Math.floorDiv(Math.min(clip.y + clip.height - startY, worldH + 2), TILE_PX);
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                g.drawImage(tile(tx, ty), startX + tx * TILE_PX, startY + ty * TILE_PX, null);
+            }
+        }
+
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        drawMazeElements(g2);
+        drawOverlays(g2, clip);
     }
 
-    protected void drawMazeElements(Graphics2D g2) {
-        g2.setColor(COLOR_WALL);
-        g2.setStroke(STROKE_WALL);
-
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
-                int x = startX + c * cellSize;
-                int y = startY + r * cellSize;
-
-                if(grid[r][c].walls[0]) g2.drawLine(x, y, x+cellSize, y);
-                if(grid[r][c].walls[1]) g2.drawLine(x+cellSize, y, x+cellSize, y+cellSize);
-                if(grid[r][c].walls[2]) g2.drawLine(x+cellSize, y+cellSize, x, y+cellSize);
-                if(grid[r][c].walls[3]) g2.drawLine(x, y+cellSize, x, y);
-
-                if(grid[r][c].searchVisited && drawScan) {
-                    g2.setColor(COLOR_SEARCH);
-                    g2.fillRect(x+2, y+2, cellSize-4, cellSize-4);
-                    g2.setColor(COLOR_WALL);
+    private void validateTiles() {
+        int version = model.getVersion();
+        if (tileVersion != version || tileCellSize != cellSize) {
+            tiles.clear();
+            tileVersion = version;
+            tileCellSize = cellSize;
+        }
+    }
+
+    private BufferedImage tile(int tx, int ty) {
+        BufferedImage img = tiles.get(tx, ty);
+        if (img == null) {
+            img = tiles.allocate();
+            rasterizeTile(img, tx, ty);
+            tiles.put(tx, ty, img);
+        }
+        return img;
+    }
+
+    private void rasterizeTile(BufferedImage img, int tx, int ty) {
+        MazeGrid grid = model.getGrid();
+        int px = tx * TILE_PX, py = ty * TILE_PX;
+        Graphics2D g2 = img.createGraphics();
+        g2.setColor(getBackground());
+        g2.fillRect(0, 0, TILE_PX, TILE_PX);
+
+        // Sel yang menyentuh tile (+2 px untuk stroke dinding)
+        int c0 = Math.max(0, Math.floorDiv(px - 2, cellSize)), c1 = Math.min(grid.cols - 1, Math.floorDiv(px + TILE_PX + 2, cellSize));
+        int r0 = Math.max(0, Math.floorDiv(py - 2, cellSize)), r1 = Math.min(grid.rows - 1, Math.floorDiv(py + TILE_PX + 2, cellSize));
+        if (c0 <= c1 && r0 <= r1) {
+            g2.translate(-px, -py);
+            if (cellSize >= 4) {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                drawStatic(g2, r0, r1, c0, c1);
+            } else {
+                rasterizePixels(img, px, py, r0, r1, c0, c1);
+            }
+            for (int r = r0; r <= r1; r++) {
+                int i = grid.index(r, c0);
+                for (int c = c0; c <= c1; c++, i++) {
+                    if (shownSearch.get(i)) drawScanCell(g2, i, c * cellSize, r * cellSize);
+                    if (shownWalls == null) drawCellOverlay(g2, i, c * cellSize, r * cellSize);
+                }
+            }
+        }
+        g2.dispose();
+    }
+
+    // Zoom sangat kecil (< 4 px per sel): tulis piksel langsung, dinding kanan / bawah jadi 1 piksel
+    // (di 1 px per sel dinding tidak terlihat, hanya warna sel)
+    private void rasterizePixels(BufferedImage img, int px, int py, int r0, int r1, int c0, int c1) {
+        MazeGrid grid = model.getGrid();
+        int[] pixels = ((java.awt.image.DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        int wall = COLOR_WALL.getRGB();
+        for (int r = r0; r <= r1; r++) {
+            int i = grid.index(r, c0);
+            for (int c = c0; c <= c1; c++, i++) {
+                int rgb = shownWalls == null ? cellRgb(i) : getBackground().getRGB();
+                int w = wallsAt(grid, i);
+                for (int y = 0; y < cellSize; y++) {
+                    int sy = r * cellSize + y - py;
+                    if (sy < 0 || sy >= TILE_PX) continue;
+                    for (int x = 0; x < cellSize; x++) {
+                        int sx = c * cellSize + x - px;
+                        if (sx < 0 || sx >= TILE_PX) continue;
+                        boolean isWall = cellSize > 1 && ((x == cellSize - 1 && (w & 2) != 0) || (y == cellSize - 1 && (w & 4) != 0));
+                        pixels[sy * TILE_PX + sx] = isWall ? wall : rgb;
+                    }
                 }
             }
         }
+    }
 
-        if (startCell != null) {
-            g2.setColor(COLOR_START);
-            g2.fillRect(startX + startCell.c * cellSize + 5, startY + startCell.r * cellSize + 5, cellSize - 10, cellSize - 10);
+    // Event generate: buang tile di sekitar sel supaya dirasterisasi ulang (sekali) saat frame digambar
+    private void invalidateCell(int cell) {
+        if (tileVersion != model.getVersion()) return; // semua tile akan dibuang
+        MazeGrid grid = model.getGrid();
+        int x = grid.col(cell) * cellSize, y = grid.row(cell) * cellSize;
+        for (int ty = Math.floorDiv(y - 2, TILE_PX); ty <= Math.floorDiv(y + cellSize + 2, TILE_PX); ty++) {
+            for (int tx = Math.floorDiv(x - 2, TILE_PX); tx <= Math.floorDiv(x + cellSize + 2, TILE_PX); tx++) {
+                tiles.remove(tx, ty);
+            }
         }
-        if (endCell != null) {
-            g2.setColor(COLOR_END);
-            g2.fillRect(startX + endCell.c * cellSize + 5, startY + endCell.r * cellSize + 5, cellSize - 10, cellSize - 10);
+    }
+
+    // Akhir frame: gambar scan semua visit frame ini ke tile yang ada di cache, satu Graphics per tile
+    // (tile lain membaca shownSearch saat dirasterisasi)
+    private void flushScan() {
+        if (frameScan.isEmpty()) return;
+        if (tileVersion == model.getVersion() && tileCellSize == cellSize) {
+            MazeGrid grid = model.getGrid();
+            java.util.Map<BufferedImage, Graphics2D> open = new java.util.IdentityHashMap<>();
+            for (int k = 0; k < frameScan.size(); k++) {
+                int cell = frameScan.get(k);
+                int x = grid.col(cell) * cellSize, y = grid.row(cell) * cellSize;
+                for (int ty = Math.floorDiv(y, TILE_PX); ty <= Math.floorDiv(y + cellSize - 1, TILE_PX); ty++) {
+                    for (int tx = Math.floorDiv(x, TILE_PX); tx <= Math.floorDiv(x + cellSize - 1, TILE_PX); tx++) {
+                        BufferedImage img = tiles.get(tx, ty);
+                        if (img == null) continue;
+                        Graphics2D g2 = open.get(img);
+                        if (g2 == null) {
+                            g2 = img.createGraphics();
+                            g2.translate(-tx * TILE_PX, -ty * TILE_PX);
+                            open.put(img, g2);
+                        }
+                        drawScanCell(g2, cell, x, y);
+                    }
+                }
+            }
+            for (Graphics2D g2 : open.values()) g2.dispose();
         }
+        frameScan.clear();
+    }
+
+    // Overlay scan berubah total (run baru / sinkron hasil akhir): rasterisasi ulang tile yang terlihat
+    protected void invalidateTiles() {
+        tiles.clear();
+    }
+
+    // Dua pass supaya garis dinding (stroke 3) tidak tertutup background sel tetangga.
+    // Koordinat dunia: sel (r, c) di (c * cellSize, r * cellSize).
+    private void drawStatic(Graphics2D g2, int r0, int r1, int c0, int c1) {
+        MazeGrid grid = model.getGrid();
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (shownWalls == null) drawCellBackground(g2, grid.index(r, c), c * cellSize, r * cellSize);
+            }
+        }
+        g2.setColor(COLOR_WALL);
+        g2.setStroke(cellSize >= 8 ? STROKE_WALL : STROKE_WALL_THIN);
+        for (int r = r0; r <= r1; r++) {
+            int i = grid.index(r, c0);
+            for (int c = c0; c <= c1; c++, i++) {
+                int x = c * cellSize;
+                int y = r * cellSize;
+                int w = wallsAt(grid, i);
+
+                if((w & 1) != 0) g2.drawLine(x, y, x+cellSize, y);
+                if((w & 2) != 0) g2.drawLine(x+cellSize, y, x+cellSize, y+cellSize);
+                if((w & 4) != 0) g2.drawLine(x+cellSize, y+cellSize, x, y+cellSize);
+                if((w & 8) != 0) g2.drawLine(x, y+cellSize, x, y);
+            }
+        }
+    }
+
+    // Dinding yang digambar: salinan tampilan selama generate, grid model di luar itu
+    private int wallsAt(MazeGrid grid, int cell) {
+        if (shownWalls == null) return grid.walls(cell);
+        return (int) (shownWalls[cell >>> 4] >>> ((cell & 15) << 2)) & MazeGrid.ALL_WALLS;
+    }
+
+    // Hook untuk subclass (mis. warna terrain, dilewati selama generate); maze biasa hanya background panel
+    protected void drawCellBackground(Graphics2D g2, int cell, int x, int y) {}
+
+    // Warna sel untuk rasterisasi piksel langsung (zoom kecil)
+    protected int cellRgb(int cell) {
+        return getBackground().getRGB();
+    }
+
+    protected void drawScanCell(Graphics2D g2, int cell, int x, int y) {
+        if (!drawScan) return;
+        g2.setColor(COLOR_SEARCH);
+        if (cellSize < 6) g2.fillRect(x, y, cellSize, cellSize);
+        else g2.fillRect(x+2, y+2, cellSize-4, cellSize-4);
+    }
+
+    // Hook overlay per sel yang ikut masuk tile (di atas scan), mis. flow field di WeightedMaze
+    protected void drawCellOverlay(Graphics2D g2, int cell, int x, int y) {}
+
+    protected void drawOverlays(Graphics2D g2, Rectangle clip) {
+        MazeGrid grid = model.getGrid();
+        int startCell = model.getStartCell(), endCell = model.getEndCell();
+        IntList finalPath = shownPath;
+        int marker = Math.max(1, cellSize - 10), inset = (cellSize - marker) / 2;
+
+        g2.setColor(COLOR_START);
+        g2.fillRect(startX + grid.col(startCell) * cellSize + inset, startY + grid.row(startCell) * cellSize + inset, marker, marker);
+        g2.setColor(COLOR_END);
+        g2.fillRect(startX + grid.col(endCell) * cellSize + inset, startY + grid.row(endCell) * cellSize + inset, marker, marker);
 
-        if (!finalPath.isEmpty()) {
+        int n = finalPath.size();
+        if (n > 0) {
             g2.setColor(COLOR_SOLUTION);
-            g2.setStroke(STROKE_PATH);
-            for (int i = 0; i < finalPath.size() - 1; i++) {
-                Cell a = finalPath.get(i);
-                Cell b = finalPath.get(i + 1);
-                g2.drawLine(startX + a.c*cellSize + cellSize/2, startY + a.r*cellSize + cellSize/2,
-                        startX + b.c*cellSize + cellSize/2, startY + b.r*cellSize + cellSize/2);
+            g2.setStroke(cellSize >= 8 ? STROKE_PATH : STROKE_WALL_THIN);
+            int half = cellSize / 2;
+            int minX = clip.x - cellSize, maxX = clip.x + clip.width + cellSize;
+            int minY = clip.y - cellSize, maxY = clip.y + clip.height + cellSize;
+            for (int i = 0; i < n - 1; i++) {
+                int a = finalPath.get(i);
+                int b = finalPath.get(i + 1);
+                int ax = startX + grid.col(a) * cellSize + half, ay = startY + grid.row(a) * cellSize + half;
+                if (ax < minX || ax > maxX || ay < minY || ay > maxY) continue; // segmen di luar layar
+                g2.drawLine(ax, ay, startX + grid.col(b) * cellSize + half, startY + grid.row(b) * cellSize + half);
             }
         }
     }
-}
\ No newline at end of file
+}
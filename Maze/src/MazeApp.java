@@ -1,16 +1,21 @@
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.util.function.Function;
 
 public class MazeApp {
     public static void main(String[] args) {
+        // Ukuran maze bisa diatur: java MazeApp [rows] [cols]
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : Maze.DEFAULT_ROWS;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : Maze.DEFAULT_COLS;
+
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("All-in-One Maze Solver");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
             frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
             frame.setResizable(true);
 
-            WeightedMaze mazePanel = new WeightedMaze();
+            WeightedMaze mazePanel = new WeightedMaze(new WeightedMazeModel(rows, cols));
 
             // --- Panel Statistik (Kanan) ---
             JPanel statsPanel = new JPanel(new BorderLayout());
@@ -34,6 +39,8 @@ public class MazeApp {
 
             statsPanel.add(lblTitle, BorderLayout.NORTH);
             statsPanel.add(statsText, BorderLayout.CENTER);
+            // Grafik metrik live (node diekspansi & frontier) dari generate / solve yang sedang berjalan
+            statsPanel.add(new MetricsChart(mazePanel.getModel().getMetrics()), BorderLayout.SOUTH);
 
             // Sambungkan Callback dari Maze ke Text Area ini
             mazePanel.setStatsCallback(text -> {
@@ -47,34 +54,105 @@ public class MazeApp {
 
             JPanel genPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 0));
             genPanel.setOpaque(false);
+            JComboBox<MazeGenerator> genCombo = createCombo(MazeGenerator.defaults(), MazeGenerator::name);
             JButton btnStandard = createButton("1. Standard Maze", new Color(80, 80, 80));
             JButton btnTerrain = createButton("2. Terrain Map (Weighted)", new Color(34, 139, 34));
+            // Maze besar: animasi mati secara default, navigasi lewat drag (geser) / scroll (zoom)
+            JCheckBox chkAnimate = new JCheckBox("Animate", (long) rows * cols <= 1_000_000);
+            chkAnimate.setFont(new Font("SansSerif", Font.BOLD, 14));
+            chkAnimate.setForeground(Color.WHITE);
+            chkAnimate.setOpaque(false);
+            chkAnimate.setFocusable(false);
+            mazePanel.setAnimate(chkAnimate.isSelected());
+            JButton btnFit = createButton("Fit View", new Color(70, 70, 90));
+            btnFit.setPreferredSize(new Dimension(120, 45));
+            btnFit.setToolTipText("Drag to pan, scroll to zoom, double-click to fit");
+            genPanel.add(genCombo);
             genPanel.add(btnStandard);
             genPanel.add(btnTerrain);
+            JButton btnSave = createButton("Save", new Color(70, 70, 90));
+            btnSave.setPreferredSize(new Dimension(90, 45));
+            JButton btnOpen = createButton("Open", new Color(70, 70, 90));
+            btnOpen.setPreferredSize(new Dimension(90, 45));
+            // Alat edit: klik dinding / cat terrain, path diperbaiki dengan LPA* setelah setiap edit
+            JComboBox<Maze.EditTool> editCombo = createCombo(Maze.EditTool.values(), t -> t.label);
+            editCombo.addActionListener(e -> mazePanel.setEditTool((Maze.EditTool) editCombo.getSelectedItem()));
+            genPanel.add(editCombo);
+            genPanel.add(chkAnimate);
+            genPanel.add(btnFit);
+            genPanel.add(btnSave);
+            genPanel.add(btnOpen);
 
             JPanel solvePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 0));
             solvePanel.setOpaque(false);
             JButton btnBFS = createButton("BFS", new Color(0, 100, 200));
+            JButton btnBiBFS = createButton("Bi-BFS", new Color(0, 140, 140));
             JButton btnDFS = createButton("DFS", new Color(128, 0, 128));
+            JButton btnDeadEnd = createButton("Dead-End Fill", new Color(90, 90, 150));
+            btnDeadEnd.setPreferredSize(new Dimension(150, 45));
             JButton btnDijkstra = createButton("Dijkstra", new Color(200, 60, 0));
             JButton btnAStar = createButton("A*", new Color(210, 180, 0));
             btnAStar.setForeground(Color.BLACK);
 
             solvePanel.add(btnBFS);
+            solvePanel.add(btnBiBFS);
             solvePanel.add(btnDFS);
+            solvePanel.add(btnDeadEnd);
+            JComboBox<WeightedMazeModel.WeightedEngine> engineCombo =
+                    createCombo(WeightedMazeModel.WeightedEngine.values(), e -> e.label);
+            solvePanel.add(engineCombo);
             solvePanel.add(btnDijkstra);
             solvePanel.add(btnAStar);
+            // Race: BFS, DFS, dead-end filling, Dijkstra & A* bersamaan di snapshot maze; Stop membatalkan run utama
+            JButton btnRace = createButton("Race", new Color(150, 30, 90));
+            btnRace.setPreferredSize(new Dimension(100, 45));
+            JButton btnStop = createButton("Stop", new Color(90, 40, 40));
+            btnStop.setPreferredSize(new Dimension(90, 45));
+            // Flow field: biaya semua sel ke titik akhir sekaligus, tampil sebagai overlay
+            JButton btnField = createButton("Flow Field", new Color(30, 110, 90));
+            btnField.setPreferredSize(new Dimension(130, 45));
+            JCheckBox chkField = new JCheckBox("Show Field", true);
+            chkField.setFont(new Font("SansSerif", Font.BOLD, 14));
+            chkField.setForeground(Color.WHITE);
+            chkField.setOpaque(false);
+            chkField.setFocusable(false);
+            solvePanel.add(btnField);
+            solvePanel.add(chkField);
+            solvePanel.add(btnRace);
+            solvePanel.add(btnStop);
 
             controlPanel.add(genPanel);
             controlPanel.add(solvePanel);
 
             // Listeners
-            btnStandard.addActionListener(e -> mazePanel.generatePrim());
-            btnTerrain.addActionListener(e -> mazePanel.generateWeightedTerrain());
+            btnStandard.addActionListener(e -> mazePanel.generate((MazeGenerator) genCombo.getSelectedItem()));
+            btnTerrain.addActionListener(e -> mazePanel.generateWeightedTerrain((MazeGenerator) genCombo.getSelectedItem()));
+            chkAnimate.addActionListener(e -> mazePanel.setAnimate(chkAnimate.isSelected()));
+            btnFit.addActionListener(e -> mazePanel.fitToView());
+            JFileChooser chooser = new JFileChooser();
+            chooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Maze files (*.maze)", "maze"));
+            btnSave.addActionListener(e -> {
+                if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) return;
+                java.io.File file = chooser.getSelectedFile();
+                if (!file.getName().contains(".")) file = new java.io.File(file.getPath() + ".maze");
+                mazePanel.saveMaze(file.toPath());
+            });
+            btnOpen.addActionListener(e -> {
+                if (chooser.showOpenDialog(frame) == JFileChooser.APPROVE_OPTION) mazePanel.loadMaze(chooser.getSelectedFile().toPath());
+            });
             btnBFS.addActionListener(e -> mazePanel.solve(true));
+            btnBiBFS.addActionListener(e -> mazePanel.solve(new BidirectionalBfsSolver()));
             btnDFS.addActionListener(e -> mazePanel.solve(false));
-            btnDijkstra.addActionListener(e -> mazePanel.solveWeighted(false));
-            btnAStar.addActionListener(e -> mazePanel.solveWeighted(true));
+            btnDeadEnd.addActionListener(e -> mazePanel.solveDeadEndFill());
+            btnDijkstra.addActionListener(e -> mazePanel.solveWeighted(false, (WeightedMazeModel.WeightedEngine) engineCombo.getSelectedItem()));
+            btnAStar.addActionListener(e -> mazePanel.solveWeighted(true, (WeightedMazeModel.WeightedEngine) engineCombo.getSelectedItem()));
+            btnRace.addActionListener(e -> {
+                MazeModel snapshot = mazePanel.snapshot();
+                if (snapshot != null) RaceDialog.start(frame, snapshot);
+            });
+            btnStop.addActionListener(e -> mazePanel.cancelRun());
+            btnField.addActionListener(e -> mazePanel.computeFlowField());
+            chkField.addActionListener(e -> mazePanel.setShowFlowField(chkField.isSelected()));
 
             // Layout Utama
             frame.setLayout(new BorderLayout());
@@ -87,6 +165,23 @@ public class MazeApp {
         });
     }
 
+    // Combo box dengan label custom (mis. MazeGenerator::name)
+    private static <T> JComboBox<T> createCombo(T[] items, Function<T, String> label) {
+        JComboBox<T> combo = new JComboBox<>(items);
+        combo.setFont(new Font("SansSerif", Font.BOLD, 14));
+        combo.setPreferredSize(new Dimension(160, 45));
+        combo.setFocusable(false);
+        combo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean selected, boolean focus) {
+                @SuppressWarnings("unchecked")
+                String text = value == null ? "" : label.apply((T) value);
+                return super.getListCellRendererComponent(list, text, index, selected, focus);
+            }
+        });
+        return combo;
+    }
+
     private static JButton createButton(String text, Color bg) {
         JButton btn = new JButton(text);
         btn.setFont(new Font("SansSerif", Font.BOLD, 14));
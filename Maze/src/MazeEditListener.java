@@ -0,0 +1,11 @@
+// Observer untuk edit kecil pada MazeModel (toggleWall / setTerrain), dipanggil setelah grid / terrain
+// diubah dan version dinaikkan. Struktur yang mahal dibangun (LPA*, HPA*) memakainya untuk memperbaiki
+// diri sebagian, bukan membangun ulang dari nol.
+public interface MazeEditListener {
+
+    // Dinding antara sel a dan b (bertetangga) dibuka atau ditutup
+    void wallChanged(MazeModel model, int a, int b);
+
+    // Biaya masuk ke sel berubah
+    void costChanged(MazeModel model, int cell);
+}
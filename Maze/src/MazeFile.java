@@ -0,0 +1,329 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+// File maze biner lengkap (little-endian), layout dinding sama persis dengan MazeGrid di memori:
+//   header  (128 byte): magic "MZMP", version, rows, cols, flags, reserved, start (long), end (long),
+//                       seed (long), wallsOffset (long), terrainOffset (long), nama generator (40 byte ASCII)
+//   walls   : MazeGrid.wallWords(cells) long, 16 sel per long (4 bit per sel)
+//   terrain : cells byte (hanya jika FLAG_TERRAIN)
+// Load memakai FileChannel.map (MapMode.PRIVATE) tanpa menyalin isi: maze multi-GB terbuka seketika,
+// dan beberapa proses yang membuka file yang sama berbagi page cache yang sama.
+// Jumlah sel di file boleh melebihi 2^31 (index long, dipakai OutOfCoreSolver); load ke MazeModel
+// hanya untuk maze yang muat di MazeGrid.
+public final class MazeFile {
+
+    static final int MAGIC = 0x4D5A4D50; // "MZMP"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 128;
+    static final int NAME_BYTES = 40;
+    static final int FLAG_TERRAIN = 1, FLAG_SEED = 2;
+
+    private MazeFile() {}
+
+    // Isi header (dibaca tanpa me-map isi file)
+    public record Header(int rows, int cols, long startCell, long endCell, int flags, long seed,
+                         long wallsOffset, long terrainOffset, String generatorName) {
+        public long cells() { return (long) rows * cols; }
+        public boolean hasTerrain() { return (flags & FLAG_TERRAIN) != 0; }
+        public boolean hasSeed() { return (flags & FLAG_SEED) != 0; }
+    }
+
+    // --- Simpan ---
+
+    // Ditulis ke file sementara di direktori yang sama lalu di-rename: grid yang sedang di-map dari path
+    // ini (hasil load) tetap membaca inode lama, jadi simpan ke file asalnya aman.
+    public static void save(MazeModel model, Path path) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, path.getFileName() + ".", ".tmp");
+        try {
+            write(model, tmp);
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        if (model instanceof WeightedMazeModel weighted) weighted.saveLandmarkIndex(landmarkPath(path));
+    }
+
+    // File index ALT di samping file maze ("<nama>.alt"); ditulis saat save jika index sudah dibangun
+    public static Path landmarkPath(Path mazePath) {
+        return mazePath.resolveSibling(mazePath.getFileName() + ".alt");
+    }
+
+    private static void write(MazeModel model, Path path) throws IOException {
+        MazeGrid grid = model.getGrid();
+        long cells = grid.size();
+        long words = MazeGrid.wallWords(cells);
+        ByteBuffer terrain = null;
+        if (model instanceof WeightedMazeModel weighted && weighted.isTerrainMode()) {
+            terrain = weighted.terrainBuffer();
+        }
+
+        int flags = (terrain != null ? FLAG_TERRAIN : 0) | (model.hasSeed() ? FLAG_SEED : 0);
+        long terrainOffset = terrain != null ? HEADER_BYTES + words * Long.BYTES : 0;
+
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            writeFully(ch, header(grid.rows, grid.cols, flags, model.getStartCell(), model.getEndCell(),
+                    model.getSeed(), terrainOffset, model.getGeneratorName()));
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            LongStore walls = grid.wallStore();
+            for (long w = 0; w < words; ) {
+                buf.clear();
+                while (w < words && buf.remaining() >= Long.BYTES) buf.putLong(walls.get(w++));
+                buf.flip();
+                writeFully(ch, buf);
+            }
+
+            if (terrain != null) {
+                ByteBuffer t = terrain.duplicate();
+                t.clear().limit((int) cells);
+                writeFully(ch, t);
+            }
+        }
+    }
+
+    private static ByteBuffer header(int rows, int cols, int flags, long start, long end, long seed,
+                                     long terrainOffset, String generatorName) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(flags).putInt(0)
+                .putLong(start).putLong(end).putLong(seed).putLong(HEADER_BYTES).putLong(terrainOffset);
+        byte[] name = generatorName.getBytes(StandardCharsets.US_ASCII);
+        header.put(name, 0, Math.min(name.length, NAME_BYTES));
+        header.clear();
+        return header;
+    }
+
+    // --- Muat ---
+
+    public static Header readHeader(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readHeader(ch);
+        }
+    }
+
+    static Header readHeader(FileChannel ch) throws IOException {
+        ByteBuffer b = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (b.hasRemaining()) {
+            if (ch.read(b, b.position()) < 0) throw new IOException("Truncated maze file header");
+        }
+        b.flip();
+        if (b.getInt() != MAGIC) throw new IOException("Not a maze file");
+        int version = b.getInt();
+        if (version != VERSION) throw new IOException("Unsupported maze file version " + version);
+        int rows = b.getInt(), cols = b.getInt(), flags = b.getInt();
+        b.getInt();
+        long start = b.getLong(), end = b.getLong();
+        long seed = b.getLong(), wallsOffset = b.getLong(), terrainOffset = b.getLong();
+        byte[] name = new byte[NAME_BYTES];
+        b.get(name);
+        int len = 0;
+        while (len < NAME_BYTES && name[len] != 0) len++;
+
+        Header h = new Header(rows, cols, start, end, flags, seed, wallsOffset, terrainOffset,
+                new String(name, 0, len, StandardCharsets.US_ASCII));
+        if (rows <= 0 || cols <= 0) throw new IOException("Invalid maze size " + rows + "x" + cols);
+        if (start < 0 || start >= h.cells() || end < 0 || end >= h.cells()) throw new IOException("Invalid start / end cell");
+        // Offset dicek sebelum map: dinding tidak boleh menimpa header, terrain tidak boleh menimpa dinding
+        long wallsEnd = wallsOffset + MazeGrid.wallWords(h.cells()) * Long.BYTES;
+        if (wallsOffset < HEADER_BYTES) throw new IOException("Invalid walls offset " + wallsOffset);
+        if (h.hasTerrain() && terrainOffset < wallsEnd) throw new IOException("Invalid terrain offset " + terrainOffset);
+        long expected = h.hasTerrain() ? terrainOffset + h.cells() : wallsEnd;
+        if (ch.size() < expected) throw new IOException("Truncated maze file: " + ch.size() + " < " + expected + " bytes");
+        return h;
+    }
+
+    // Map file ke model yang sudah ada (grid & terrain lama dibuang). Isi file tidak disalin;
+    // perubahan (generate ulang, addLoops) hanya mengenai salinan privat halaman itu, file tetap utuh.
+    // MapMode.PRIVATE butuh channel yang bisa ditulis; file read-only di-map READ_ONLY (maze tidak bisa diubah).
+    public static Header load(Path path, MazeModel model) throws IOException {
+        boolean writable = Files.isWritable(path);
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY;
+        try (FileChannel ch = writable ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                                       : FileChannel.open(path, StandardOpenOption.READ)) {
+            Header h = readHeader(ch);
+            if (h.cells() > Integer.MAX_VALUE) {
+                throw new IOException("Maze of " + h.cells() + " cells is too large for MazeGrid; use OutOfCoreSolver");
+            }
+            LongStore walls = LongStore.mapped(ch, mode, h.wallsOffset(), MazeGrid.wallWords(h.cells()));
+            MazeGrid grid = new MazeGrid(h.rows(), h.cols(), walls, true);
+
+            if (model instanceof WeightedMazeModel weighted) {
+                ByteBuffer terrain = h.hasTerrain() ? ch.map(mode, h.terrainOffset(), h.cells()) : null;
+                if (terrain != null) checkTerrain(terrain, 0);
+                weighted.attach(grid, (int) h.startCell(), (int) h.endCell(), h.seed(), h.hasSeed(), h.generatorName(), terrain);
+                loadLandmarkIndex(path, weighted);
+            } else {
+                model.attach(grid, (int) h.startCell(), (int) h.endCell(), h.seed(), h.hasSeed(), h.generatorName());
+            }
+            return h;
+        }
+    }
+
+    // Terrain dari file hanya boleh berisi biaya yang dikenal; byte lain (mis. 200 = biaya negatif, atau
+    // > maxCost yang membuat bucket queue membungkus) berarti file rusak. firstCell = sel pertama buffer.
+    static void checkTerrain(ByteBuffer terrain, long firstCell) throws IOException {
+        for (int i = 0, n = terrain.limit(); i < n; i++) {
+            int cost = terrain.get(i);
+            if (cost != WeightedMazeModel.COST_GRASS && cost != WeightedMazeModel.COST_MUD && cost != WeightedMazeModel.COST_WATER) {
+                throw new IOException("Invalid terrain cost " + (cost & 0xFF) + " at cell " + (firstCell + i));
+            }
+        }
+    }
+
+    // Index ALT dari file samping, jika ada. Index untuk isi maze lain (contentHash beda) diabaikan dan
+    // dibangun ulang saat solve ALT pertama.
+    private static void loadLandmarkIndex(Path path, WeightedMazeModel model) {
+        Path alt = landmarkPath(path);
+        if (!Files.isRegularFile(alt)) return;
+        try {
+            model.loadLandmarkIndex(alt);
+        } catch (IOException | RuntimeException e) {
+            // basi / rusak: tetap pakai maze tanpa index (dibangun ulang nanti)
+        }
+    }
+
+    // Model baru sesuai isi file (WeightedMazeModel jika file berisi terrain)
+    public static MazeModel load(Path path) throws IOException {
+        Header h = readHeader(path);
+        MazeModel model = h.hasTerrain() ? new WeightedMazeModel(1, 1) : new MazeModel(1, 1);
+        load(path, model);
+        return model;
+    }
+
+    // --- Tulis streaming (maze lebih besar dari memori) ---
+
+    // Writer baris demi baris (mis. dari EllerGenerator.stream). Jumlah baris harus diketahui di depan
+    // supaya offset terrain tetap; terrain acak (60% / 25% / 15%) ditulis bersamaan jika terrainSeed diberikan.
+    public static Writer writer(Path path, long rows, int cols, String generatorName, Long terrainSeed) throws IOException {
+        return new Writer(path, rows, cols, generatorName, terrainSeed);
+    }
+
+    // Nibble dinding ditulis berurutan (2 sel per byte, nibble bawah dulu), sama dengan image
+    // little-endian dari word MazeGrid. Start = kiri atas, end = kanan bawah, pintu dibuka saat close().
+    public static final class Writer implements RowSink, Closeable {
+        private final FileChannel ch;
+        private final long rows;
+        private final int cols;
+        private final long cells, terrainOffset;
+        private final Random terrainRand;
+        private final ByteBuffer wallBuf = ByteBuffer.allocateDirect(1 << 20);
+        private final ByteBuffer terrainBuf = ByteBuffer.allocateDirect(1 << 20);
+        private long wallPos = HEADER_BYTES, terrainPos;
+        private int pendingNibble = -1;
+        private long rowsWritten;
+        private final int terrainFlag;
+        private final long seed;
+        private final String generatorName;
+
+        private Writer(Path path, long rows, int cols, String generatorName, Long terrainSeed) throws IOException {
+            if (rows <= 0 || rows > Integer.MAX_VALUE || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+            this.rows = rows;
+            this.cols = cols;
+            this.cells = rows * cols;
+            this.generatorName = generatorName;
+            this.terrainFlag = terrainSeed != null ? FLAG_TERRAIN | FLAG_SEED : 0;
+            this.seed = terrainSeed != null ? terrainSeed : 0;
+            this.terrainRand = terrainSeed != null ? new Random(terrainSeed) : null;
+            this.terrainOffset = terrainSeed != null ? HEADER_BYTES + MazeGrid.wallWords(cells) * Long.BYTES : 0;
+            this.terrainPos = terrainOffset;
+            ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        @Override
+        public void acceptRow(long row, byte[] walls) {
+            try {
+                for (int c = 0; c < walls.length; c++) putNibble(walls[c] & MazeGrid.ALL_WALLS);
+                if (terrainRand != null) {
+                    for (int c = 0; c < walls.length; c++) {
+                        double p = terrainRand.nextDouble();
+                        int cost = p < 0.60 ? WeightedMazeModel.COST_GRASS : p < 0.85 ? WeightedMazeModel.COST_MUD : WeightedMazeModel.COST_WATER;
+                        if (!terrainBuf.hasRemaining()) terrainPos = flush(terrainBuf, terrainPos);
+                        terrainBuf.put((byte) cost);
+                    }
+                }
+                rowsWritten++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void putNibble(int nibble) throws IOException {
+            if (pendingNibble < 0) {
+                pendingNibble = nibble;
+                return;
+            }
+            if (!wallBuf.hasRemaining()) wallPos = flush(wallBuf, wallPos);
+            wallBuf.put((byte) (pendingNibble | nibble << 4));
+            pendingNibble = -1;
+        }
+
+        private long flush(ByteBuffer buf, long pos) throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) pos += ch.write(buf, pos);
+            buf.clear();
+            return pos;
+        }
+
+        public long rowsWritten() { return rowsWritten; }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (rowsWritten != rows) throw new IOException("Expected " + rows + " rows, got " + rowsWritten);
+                // Sisa word diisi dinding penuh (sama seperti MazeGrid.reset)
+                long nibbles = MazeGrid.wallWords(cells) * 16;
+                for (long k = cells; k < nibbles; k++) putNibble(MazeGrid.ALL_WALLS);
+                wallPos = flush(wallBuf, wallPos);
+                if (terrainRand != null) {
+                    terrainPos = flush(terrainBuf, terrainPos);
+                    writeByte(terrainOffset, (byte) WeightedMazeModel.COST_GRASS);                // start
+                    writeByte(terrainOffset + cells - 1, (byte) WeightedMazeModel.COST_GRASS);    // end
+                }
+                // Pintu masuk (kiri sel pertama) & keluar (kanan sel terakhir)
+                patchNibble(0, MazeGrid.LEFT);
+                patchNibble(cells - 1, MazeGrid.RIGHT);
+                writeFully(ch, header((int) rows, cols, terrainFlag, 0, cells - 1, seed, terrainOffset, generatorName), 0);
+            } finally {
+                ch.close();
+            }
+        }
+
+        private void patchNibble(long cell, int dir) throws IOException {
+            long pos = HEADER_BYTES + (cell >>> 1);
+            ByteBuffer b = ByteBuffer.allocate(1);
+            ch.read(b, pos);
+            int shift = (int) (cell & 1) << 2;
+            writeByte(pos, (byte) (b.get(0) & ~(1 << (dir + shift))));
+        }
+
+        private void writeByte(long pos, byte v) throws IOException {
+            writeFully(ch, ByteBuffer.wrap(new byte[]{v}), pos);
+        }
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf, long pos) throws IOException {
+        while (buf.hasRemaining()) pos += ch.write(buf, pos);
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+}
@@ -0,0 +1,24 @@
+import java.util.Random;
+
+// Generator maze yang bisa dipilih dari MazeApp.
+// Generator menerima grid yang semua dindingnya tertutup lalu membuka dinding menjadi perfect maze.
+public interface MazeGenerator {
+
+    String name();
+
+    // listener boleh null (mode headless)
+    void generate(MazeGrid grid, Random rand, MazeListener listener);
+
+    // Daftar generator bawaan, urutan sama dengan pilihan di MazeApp
+    static MazeGenerator[] defaults() {
+        return new MazeGenerator[]{
+                new PrimGenerator(),
+                new KruskalGenerator(),
+                new WilsonGenerator(),
+                new BacktrackerGenerator(),
+                new SidewinderGenerator(),
+                new EllerGenerator(),
+                new TiledGenerator(new BacktrackerGenerator(), 256)
+        };
+    }
+}
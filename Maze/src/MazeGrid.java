@@ -0,0 +1,245 @@
+// Grid maze versi packed: pengganti Cell[][] supaya maze 10^7 - 10^8 sel muat di memori.
+//  - walls   : 4 bit per sel (bit 0=Top, 1=Right, 2=Bottom, 3=Left), 16 sel per long
+//  - visited : 1 bit per sel (dipakai generator)
+//  - search  : 1 bit per sel (dipakai solver untuk visualisasi scan)
+//  - parent  : 2 bit per sel, arah dari sel ke parent-nya (valid hanya jika search bit aktif)
+// Sel diidentifikasi dengan index = r * cols + c.
+public class MazeGrid {
+
+    public static final int TOP = 0, RIGHT = 1, BOTTOM = 2, LEFT = 3;
+    public static final int ALL_WALLS = 0xF;
+
+    static final int[] DR = {-1, 0, 1, 0};
+    static final int[] DC = {0, 1, 0, -1};
+
+    public final int rows;
+    public final int cols;
+    private final boolean offHeap;
+
+    private final LongStore walls;
+    private final LongStore visited;
+    private final LongStore search;
+    private final LongStore parents;
+
+    public MazeGrid(int rows, int cols) {
+        this(rows, cols, false);
+    }
+
+    public MazeGrid(int rows, int cols, boolean offHeap) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        long cells = (long) rows * cols;
+        if (cells > Integer.MAX_VALUE) throw new IllegalArgumentException("Maze too large: " + cells + " cells");
+        this.rows = rows;
+        this.cols = cols;
+        this.offHeap = offHeap;
+        this.walls = store(wallWords(cells));
+        this.visited = store((cells + 63) >>> 6);
+        this.search = store((cells + 63) >>> 6);
+        this.parents = store((cells + 31) >>> 5);
+        reset();
+    }
+
+    // Grid dengan dinding dari storage yang sudah ada (mis. file yang di-map oleh MazeFile).
+    // Dinding tidak di-reset; flag generator / solver dialokasikan baru.
+    public MazeGrid(int rows, int cols, LongStore walls, boolean offHeap) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        long cells = (long) rows * cols;
+        if (cells > Integer.MAX_VALUE) throw new IllegalArgumentException("Maze too large: " + cells + " cells");
+        if (walls.size() != wallWords(cells)) throw new IllegalArgumentException("Wall store has " + walls.size() + " words, expected " + wallWords(cells));
+        this.rows = rows;
+        this.cols = cols;
+        this.offHeap = offHeap;
+        this.walls = walls;
+        this.visited = store((cells + 63) >>> 6);
+        this.search = store((cells + 63) >>> 6);
+        this.parents = store((cells + 31) >>> 5);
+    }
+
+    // Jumlah long untuk dinding (4 bit per sel)
+    public static long wallWords(long cells) {
+        return (cells + 15) >>> 4;
+    }
+
+    // Storage dinding mentah (layout persis seperti di memori, dipakai MazeFile)
+    LongStore wallStore() {
+        return walls;
+    }
+
+    // Salinan dinding (flag generator / solver baru & kosong). Salinan tidak ikut berubah jika grid asli
+    // di-generate ulang, jadi aman dibaca beberapa thread sekaligus (race mode).
+    public MazeGrid copy() {
+        LongStore copy = store(walls.size());
+        for (long i = 0, n = walls.size(); i < n; i++) copy.set(i, walls.get(i));
+        return new MazeGrid(rows, cols, copy, offHeap);
+    }
+
+    private LongStore store(long words) {
+        return offHeap ? LongStore.offHeap(words) : LongStore.heap(words);
+    }
+
+    // Semua dinding tertutup, semua flag dihapus
+    public void reset() {
+        walls.fill(-1L);
+        visited.fill(0L);
+        clearSearch();
+    }
+
+    public void clearSearch() {
+        search.fill(0L);
+        parents.fill(0L);
+    }
+
+    // --- Koordinat ---
+    public int size() { return rows * cols; }
+    public int index(int r, int c) { return r * cols + c; }
+    public int row(int i) { return i / cols; }
+    public int col(int i) { return i % cols; }
+    public boolean isValid(int r, int c) { return r >= 0 && r < rows && c >= 0 && c < cols; }
+    public boolean isOffHeap() { return offHeap; }
+
+    // Tetangga di arah dir, atau -1 jika di luar grid
+    public int neighbor(int i, int dir) {
+        switch (dir) {
+            case TOP:    return i >= cols ? i - cols : -1;
+            case RIGHT:  return (i % cols) < cols - 1 ? i + 1 : -1;
+            case BOTTOM: return i < size() - cols ? i + cols : -1;
+            default:     return (i % cols) > 0 ? i - 1 : -1;
+        }
+    }
+
+    // Arah dari a ke b (harus bertetangga), atau -1
+    public int direction(int a, int b) {
+        int d = b - a;
+        if (d == -cols) return TOP;
+        if (d == cols) return BOTTOM;
+        if (d == 1 && (a % cols) < cols - 1) return RIGHT;
+        if (d == -1 && (a % cols) > 0) return LEFT;
+        return -1;
+    }
+
+    public static int opposite(int dir) { return dir ^ 2; }
+
+    // --- Dinding ---
+    public int walls(int i) {
+        return (int) (walls.get(i >>> 4) >>> ((i & 15) << 2)) & ALL_WALLS;
+    }
+
+    public void setWalls(int i, int mask) {
+        long w = i >>> 4;
+        int shift = (i & 15) << 2;
+        long word = walls.get(w);
+        walls.set(w, (word & ~(0xFL << shift)) | ((long) (mask & ALL_WALLS) << shift));
+    }
+
+    public boolean hasWall(int i, int dir) {
+        return (walls(i) & (1 << dir)) != 0;
+    }
+
+    public void setWall(int i, int dir, boolean present) {
+        int m = walls(i);
+        setWalls(i, present ? m | (1 << dir) : m & ~(1 << dir));
+    }
+
+    // Buka dinding antara i dan tetangganya di arah dir (kedua sisi)
+    public void carve(int i, int dir) {
+        int n = neighbor(i, dir);
+        setWall(i, dir, false);
+        if (n >= 0) setWall(n, opposite(dir), false);
+    }
+
+    public void removeWallBetween(int a, int b) {
+        int dir = direction(a, b);
+        if (dir >= 0) carve(a, dir);
+    }
+
+    // True jika bisa berjalan dari i ke arah dir (tidak ada dinding & masih di dalam grid)
+    public boolean isOpen(int i, int dir) {
+        return !hasWall(i, dir) && neighbor(i, dir) >= 0;
+    }
+
+    // Mask arah yang bisa dilewati dari i (bit d = arah d terbuka & masih di dalam grid).
+    // Satu kali baca word + satu pembagian, lebih murah daripada 4x isOpen() di inner loop solver.
+    public int openMask(int i) {
+        return openMask(walls(i), i, cols, size());
+    }
+
+    // Aturan yang sama untuk index long (maze di luar MazeGrid, mis. OutOfCoreSolver):
+    // walls = nibble dinding sel i, cells = rows * cols
+    public static int openMask(int walls, long i, int cols, long cells) {
+        int mask = ~walls & ALL_WALLS;
+        long c = i % cols;
+        if (i < cols) mask &= ~(1 << TOP);
+        if (c == cols - 1) mask &= ~(1 << RIGHT);
+        if (i >= cells - cols) mask &= ~(1 << BOTTOM);
+        if (c == 0) mask &= ~(1 << LEFT);
+        return mask;
+    }
+
+    // Selisih index ke tetangga di arah dir (tanpa cek batas, pakai bersama openMask)
+    public int offset(int dir) {
+        switch (dir) {
+            case TOP:    return -cols;
+            case RIGHT:  return 1;
+            case BOTTOM: return cols;
+            default:     return -1;
+        }
+    }
+
+    // --- Flag Generator ---
+    public boolean isVisited(int i) { return getBit(visited, i); }
+    public void setVisited(int i, boolean v) { setBit(visited, i, v); }
+
+    // --- Flag Solver ---
+    public boolean isSearched(int i) { return getBit(search, i); }
+    public void setSearched(int i, boolean v) { setBit(search, i, v); }
+
+    // Sel searched berikutnya mulai dari 'from' (seperti BitSet.nextSetBit), atau -1.
+    // Memindai per word, jadi bagian grid yang tidak disentuh solver dilewati 64 sel sekaligus.
+    public int nextSearched(int from) {
+        int n = size();
+        if (from >= n) return -1;
+        long w = from >>> 6, words = search.size();
+        long word = search.get(w) & (-1L << from);
+        while (word == 0) {
+            if (++w >= words) return -1;
+            word = search.get(w);
+        }
+        long i = (w << 6) + Long.numberOfTrailingZeros(word);
+        return i < n ? (int) i : -1;
+    }
+
+    public int parentDir(int i) {
+        return (int) (parents.get(i >>> 5) >>> ((i & 31) << 1)) & 3;
+    }
+
+    public void setParentDir(int i, int dir) {
+        long w = i >>> 5;
+        int shift = (i & 31) << 1;
+        long word = parents.get(w);
+        parents.set(w, (word & ~(3L << shift)) | ((long) dir << shift));
+    }
+
+    // Parent disimpan sebagai arah, jadi cukup 2 bit per sel
+    public void setParent(int child, int parent) {
+        setParentDir(child, direction(child, parent));
+    }
+
+    public int parent(int i) {
+        return neighbor(i, parentDir(i));
+    }
+
+    private static boolean getBit(LongStore s, int i) {
+        return (s.get(i >>> 6) & (1L << i)) != 0;
+    }
+
+    private static void setBit(LongStore s, int i, boolean v) {
+        long w = i >>> 6;
+        long word = s.get(w);
+        s.set(w, v ? word | (1L << i) : word & ~(1L << i));
+    }
+
+    // Total byte yang dipakai grid (tanpa header objek)
+    public long memoryBytes() {
+        return walls.bytes() + visited.bytes() + search.bytes() + parents.bytes();
+    }
+}
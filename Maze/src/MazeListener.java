@@ -0,0 +1,22 @@
+// Observer untuk MazeModel. Semua method default kosong, jadi GUI cukup override yang dibutuhkan.
+// Mode headless cukup tanpa listener: model berjalan sinkron tanpa sleep / repaint.
+public interface MazeListener {
+
+    // Dipanggil setiap kali generator membuka dinding baru
+    default void onGenerateStep(int cell) {}
+
+    // Dipanggil setiap kali solver mengekspansi sel
+    default void onVisit(int cell) {}
+
+    // Dipanggil setiap kali satu sel ditambahkan ke finalPath
+    default void onPathStep(int cell) {}
+
+    // Status / statistik dalam bentuk teks (format sama dengan panel Statistics)
+    default void onStats(String text) {}
+
+    // Versi dengan ukuran frontier saat itu (untuk RunMetrics). Default meneruskan ke method tanpa frontier,
+    // jadi listener yang hanya override onGenerateStep(cell) / onVisit(cell) tetap jalan.
+    default void onGenerateStep(int cell, int frontier) { onGenerateStep(cell); }
+
+    default void onExpand(int cell, int frontier) { onVisit(cell); }
+}
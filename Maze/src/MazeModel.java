@@ -0,0 +1,319 @@
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Model maze tanpa GUI: ukuran bebas, semua algoritma berjalan sinkron di thread pemanggil.
+// GUI (Maze / WeightedMaze) hanya observer lewat MazeListener.
+public class MazeModel {
+
+    // Satu query untuk solveBatch (index sel start & end)
+    public record Query(int start, int end) {}
+
+    protected MazeGrid grid;
+    protected int startCell, endCell;
+    protected final IntList finalPath = new IntList();
+    protected MazeListener listener;
+    // Naik setiap kali isi maze berubah (dipakai cache seperti JunctionGraph)
+    protected volatile int version;
+    // Seed & generator terakhir (disimpan MazeFile supaya maze bisa dibuat ulang); seed tidak diketahui
+    // jika generate dipanggil dengan Random dari luar
+    protected long seed;
+    protected boolean hasSeed;
+    protected String generatorName = "";
+    // Metrik live generate / solve terakhir (dibaca GUI untuk grafik, juga dikirim ke JFR)
+    protected final RunMetrics metrics = new RunMetrics();
+    // Solver incremental: setelah edit (toggleWall / setTerrain) path diperbaiki, bukan dicari ulang
+    protected final LpaStarSolver planner = new LpaStarSolver();
+    protected final List<MazeEditListener> editListeners = new ArrayList<>(List.of(planner));
+    // Flow field terakhir ke endCell (null / basi setelah maze berubah, lihat getFlowField)
+    protected volatile FlowField flowField;
+    // BFS default: bitset level-synchronous, top-down / bottom-up (paralel di commonPool)
+    protected final BitBfsSolver bfs = new BitBfsSolver();
+    protected final FirstSearchSolver dfs = new FirstSearchSolver(false);
+
+    public MazeModel(int rows, int cols) {
+        this(rows, cols, false);
+    }
+
+    public MazeModel(int rows, int cols, boolean offHeap) {
+        resize(rows, cols, offHeap);
+    }
+
+    // Ganti ukuran maze (grid lama dibuang)
+    public void resize(int rows, int cols, boolean offHeap) {
+        grid = new MazeGrid(rows, cols, offHeap);
+        reset();
+    }
+
+    public void setListener(MazeListener listener) {
+        this.listener = listener;
+    }
+
+    public MazeGrid getGrid() { return grid; }
+    public int getRows() { return grid.rows; }
+    public int getCols() { return grid.cols; }
+    public int getStartCell() { return startCell; }
+    public int getEndCell() { return endCell; }
+    public IntList getFinalPath() { return finalPath; }
+    public int getVersion() { return version; }
+    public long getSeed() { return seed; }
+    public boolean hasSeed() { return hasSeed; }
+    public String getGeneratorName() { return generatorName; }
+    public RunMetrics getMetrics() { return metrics; }
+    public LpaStarSolver getPlanner() { return planner; }
+
+    // Flow field yang masih cocok dengan isi maze sekarang, atau null
+    public FlowField getFlowField() {
+        FlowField f = flowField;
+        return f != null && f.isCurrent(this) ? f : null;
+    }
+
+    public void addEditListener(MazeEditListener l) {
+        editListeners.add(l);
+    }
+
+    // Biaya masuk ke sel (maze biasa = 1, WeightedMazeModel override)
+    public int cost(int cell) { return 1; }
+
+    // Biaya terbesar yang mungkin dikembalikan cost() (dipakai bucket queue)
+    public int maxCost() { return 1; }
+
+    // Hash isi maze (dinding, biaya, start & end) untuk mencocokkan index yang disimpan ke file
+    public long contentHash() {
+        long h = 0xcbf29ce484222325L;
+        h = (h ^ grid.rows) * 0x100000001b3L;
+        h = (h ^ grid.cols) * 0x100000001b3L;
+        h = (h ^ startCell) * 0x100000001b3L;
+        h = (h ^ endCell) * 0x100000001b3L;
+        for (int i = 0, n = grid.size(); i < n; i++) {
+            h = (h ^ (grid.walls(i) | cost(i) << 4)) * 0x100000001b3L;
+        }
+        return h;
+    }
+
+    public void reset() {
+        version++;
+        grid.reset();
+        startCell = grid.index(0, 0);
+        endCell = grid.index(grid.rows - 1, grid.cols - 1);
+        finalPath.clear();
+    }
+
+    // --- Generator ---
+
+    public void generatePrim() {
+        generate(new PrimGenerator(), new Random().nextLong());
+    }
+
+    public void generatePrim(Random rand) {
+        generate(new PrimGenerator(), rand);
+    }
+
+    public void generate(MazeGenerator generator) {
+        generate(generator, new Random().nextLong());
+    }
+
+    public void generate(MazeGenerator generator, long seed) {
+        generate(generator, new Random(seed));
+        this.seed = seed;
+        this.hasSeed = true;
+    }
+
+    public void generate(MazeGenerator generator, Random rand) {
+        metrics.begin(RunMetrics.Kind.GENERATE, generator.name(), grid.size());
+        try {
+            generateMaze(generator, rand);
+            metrics.end(true, 0, 0);
+        } finally {
+            metrics.endIfRunning();
+        }
+        stats("Maze Generated (" + generator.name() + ").\nReady to solve.");
+    }
+
+    // Generate tanpa begin/end metrics: subclass yang menambah langkah (terrain, loops) mencatat satu run sendiri
+    protected void generateMaze(MazeGenerator generator, Random rand) {
+        reset();
+        hasSeed = false;
+        generatorName = generator.name();
+        generator.generate(grid, rand, new MazeListener() {
+            @Override
+            public void onGenerateStep(int cell, int frontier) {
+                metrics.expand(frontier);
+                if (listener != null) listener.onGenerateStep(cell);
+            }
+
+            @Override
+            public void onGenerateStep(int cell) {
+                onGenerateStep(cell, 0);
+            }
+        });
+        openEntrances();
+        version++;
+    }
+
+    // Pakai grid yang sudah jadi (mis. hasil MazeFile.load) tanpa generate ulang
+    public void attach(MazeGrid grid, int startCell, int endCell, long seed, boolean hasSeed, String generatorName) {
+        this.grid = grid;
+        this.startCell = startCell;
+        this.endCell = endCell;
+        this.seed = seed;
+        this.hasSeed = hasSeed;
+        this.generatorName = generatorName;
+        finalPath.clear();
+        version++;
+    }
+
+    // Salinan maze (dinding, biaya, start & end) untuk dibaca solver di thread lain. Salinan tidak pernah
+    // diubah, jadi beberapa MazeSolver boleh membacanya bersamaan walau maze asli di-generate ulang.
+    public MazeModel snapshot() {
+        MazeModel copy = new MazeModel(1, 1);
+        copy.attach(grid.copy(), startCell, endCell, seed, hasSeed, generatorName);
+        return copy;
+    }
+
+    // --- Edit ---
+
+    // Buka / tutup dinding antara cell dan tetangganya di arah dir (kedua sisi).
+    // Dinding tepi luar tidak bisa diubah. False jika tidak ada yang berubah.
+    public boolean toggleWall(int cell, int dir) {
+        int nb = grid.neighbor(cell, dir);
+        if (nb < 0) return false;
+        boolean close = !grid.hasWall(cell, dir);
+        grid.setWall(cell, dir, close);
+        grid.setWall(nb, MazeGrid.opposite(dir), close);
+        version++;
+        for (MazeEditListener l : editListeners) l.wallChanged(this, cell, nb);
+        return true;
+    }
+
+    // Perbaiki path setelah edit dengan LPA* (solve pertama sama seperti A* penuh)
+    public SolveResult replan() {
+        return solve(planner);
+    }
+
+    // Pintu masuk (kiri atas) dan keluar (kanan bawah)
+    protected void openEntrances() {
+        grid.setWall(startCell, MazeGrid.LEFT, false);
+        grid.setWall(endCell, MazeGrid.RIGHT, false);
+    }
+
+    protected void removeWalls(int a, int b) {
+        grid.removeWallBetween(a, b);
+    }
+
+    // --- Solver ---
+
+    // BFS memakai BitBfsSolver, DFS memakai FirstSearchSolver (stack int[], tanpa boxing)
+    public SolveResult solve(boolean useBFS) {
+        return solve(useBFS ? bfs : dfs);
+    }
+
+    // Jalankan engine solver dari startCell ke endCell; sel yang dijelajah ditandai di grid
+    // (untuk visualisasi) dan path hasilnya disalin ke finalPath.
+    public SolveResult solve(MazeSolver solver) {
+        return solve(solver, SolveResult::summary);
+    }
+
+    // Sama, dengan teks statistik akhir dari report (dikirim sekali setelah path disalin)
+    private SolveResult solve(MazeSolver solver, Function<SolveResult, String> report) {
+        resetSolver();
+        stats("Running " + solver.name() + "...");
+        metrics.begin(RunMetrics.Kind.SOLVE, solver.name(), grid.size());
+
+        MazeListener trace = new MazeListener() {
+            @Override
+            public void onExpand(int cell, int frontier) {
+                metrics.expand(frontier);
+                grid.setSearched(cell, true);
+                if (listener != null) listener.onVisit(cell);
+            }
+
+            @Override
+            public void onVisit(int cell) {
+                onExpand(cell, 0);
+            }
+
+            @Override
+            public void onStats(String text) {
+                stats(text);
+            }
+        };
+        SolveResult result;
+        try {
+            result = solver.solve(this, startCell, endCell, trace);
+            metrics.end(result.found, result.path.length, result.cost);
+        } finally {
+            metrics.endIfRunning();
+        }
+
+        for (int cell : result.path) {
+            finalPath.add(cell);
+            if (listener != null) listener.onPathStep(cell);
+        }
+        stats(report.apply(result));
+        return result;
+    }
+
+    // Dead-end filling paralel (pembanding BFS di mesin multi-core); sel yang terisi ditandai di grid,
+    // dan tabel per pass ditambahkan di bawah ringkasan
+    public SolveResult solveDeadEndFill() {
+        DeadEndFillSolver solver = new DeadEndFillSolver();
+        return solve(solver, result -> result.summary() + solver.passReport());
+    }
+
+    // Jarak dari semua sel ke endCell sekaligus (paralel di commonPool), untuk banyak agen dengan
+    // tujuan sama. finalPath diisi jalur dari startCell dengan mengikuti arah field.
+    public FlowField computeFlowField() {
+        resetSolver();
+        stats("Computing flow field...");
+        metrics.begin(RunMetrics.Kind.SOLVE, "Flow field", grid.size());
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        FlowField field;
+        try {
+            field = FlowField.compute(this, endCell, pool, pool.getParallelism(), metrics);
+            flowField = field;
+
+            int[] path = field.pathFrom(startCell);
+            for (int cell : path) {
+                finalPath.add(cell);
+                if (listener != null) listener.onPathStep(cell);
+            }
+            int cost = field.distance(startCell);
+            metrics.end(path.length > 0, path.length, path.length > 0 ? cost : -1);
+        } finally {
+            metrics.endIfRunning();
+        }
+        stats(field.summary());
+        return field;
+    }
+
+    // --- Batch ---
+
+    // Solver default untuk batch (unweighted: BFS dua arah)
+    protected MazeSolver newBatchSolver() {
+        return new BidirectionalBfsSolver();
+    }
+
+    // Jawab banyak query sekaligus di ForkJoinPool.commonPool(). Maze tidak boleh diubah selama batch.
+    public List<SolveResult> solveBatch(List<Query> queries) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return new BatchSolver(this, this::newBatchSolver, pool, pool.getParallelism()).solve(queries);
+    }
+
+    public List<SolveResult> solveBatch(List<Query> queries, Supplier<MazeSolver> solverFactory,
+                                        ExecutorService pool, int workers) {
+        return new BatchSolver(this, solverFactory, pool, workers).solve(queries);
+    }
+
+    public void resetSolver() {
+        finalPath.clear();
+        grid.clearSearch();
+    }
+
+    protected void stats(String text) {
+        if (listener != null) listener.onStats(text);
+    }
+}
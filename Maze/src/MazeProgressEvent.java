@@ -0,0 +1,24 @@
+import jdk.jfr.*;
+
+// Event JFR berkala selama run berjalan (paling sering sekali per RunMetrics.PROGRESS_NANOS),
+// supaya pertumbuhan frontier & alokasi terlihat di timeline JMC, bukan hanya total di akhir.
+@Name("maze.Progress")
+@Label("Maze Progress")
+@Category("Maze")
+@Description("Periodic counters of a running maze generator or solver")
+@StackTrace(false)
+public class MazeProgressEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Nodes Expanded")
+    long nodesExpanded;
+
+    @Label("Frontier")
+    int frontier;
+
+    @Label("Heap Allocated")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,93 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// File stream baris maze dari EllerGenerator:
+//   header : magic "MZRS" (int), version (int), cols (int)
+//   isi    : setiap baris ceil(cols / 2) byte, 2 sel per byte (nibble bawah = kolom genap)
+// Jumlah baris tidak ditulis di header (bisa tak terbatas) tapi dihitung dari ukuran file.
+public final class MazeRowFile {
+
+    static final int MAGIC = 0x4D5A5253; // "MZRS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 12;
+
+    private MazeRowFile() {}
+
+    public static Writer writer(Path path, int cols) throws IOException {
+        return new Writer(path, cols);
+    }
+
+    static int rowBytes(int cols) {
+        return (cols + 1) >>> 1;
+    }
+
+    // Baca ulang maze hasil stream ke MazeModel supaya bisa di-solve
+    public static MazeModel load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            int cols = readHeader(in);
+            long rows = (Files.size(path) - HEADER_BYTES) / rowBytes(cols);
+            if (rows <= 0 || rows * cols > Integer.MAX_VALUE) {
+                throw new IOException("Maze of " + rows + " rows cannot be loaded into memory");
+            }
+
+            MazeModel model = new MazeModel((int) rows, cols);
+            MazeGrid grid = model.getGrid();
+            byte[] packed = new byte[rowBytes(cols)];
+            for (int r = 0; r < rows; r++) {
+                in.readFully(packed);
+                int base = grid.index(r, 0);
+                for (int c = 0; c < cols; c++) {
+                    grid.setWalls(base + c, (packed[c >>> 1] >>> ((c & 1) << 2)) & MazeGrid.ALL_WALLS);
+                }
+            }
+            model.openEntrances();
+            return model;
+        }
+    }
+
+    static int readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("Not a maze row stream");
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("Unsupported row stream version " + version);
+        int cols = in.readInt();
+        if (cols <= 0) throw new IOException("Invalid column count " + cols);
+        return cols;
+    }
+
+    // RowSink yang menulis ke file; I/O error dibungkus UncheckedIOException
+    public static final class Writer implements RowSink, Closeable {
+        private final DataOutputStream out;
+        private final byte[] packed;
+        private long rowsWritten;
+
+        private Writer(Path path, int cols) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+            packed = new byte[rowBytes(cols)];
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(cols);
+        }
+
+        @Override
+        public void acceptRow(long row, byte[] walls) {
+            java.util.Arrays.fill(packed, (byte) 0);
+            for (int c = 0; c < walls.length; c++) {
+                packed[c >>> 1] |= (byte) ((walls[c] & MazeGrid.ALL_WALLS) << ((c & 1) << 2));
+            }
+            try {
+                out.write(packed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rowsWritten++;
+        }
+
+        public long getRowsWritten() { return rowsWritten; }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
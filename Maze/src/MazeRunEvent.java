@@ -0,0 +1,44 @@
+import jdk.jfr.*;
+
+// Event JFR untuk satu kali generate / solve (durasi = begin..commit).
+// Rekam tanpa profiler: java -XX:StartFlightRecording=filename=maze.jfr MazeApp
+// lalu: jfr print --events maze.Run maze.jfr
+@Name("maze.Run")
+@Label("Maze Run")
+@Category("Maze")
+@Description("One maze generator or solver run")
+@StackTrace(false)
+public class MazeRunEvent extends Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Cells")
+    long cells;
+
+    @Label("Nodes Expanded")
+    long nodesExpanded;
+
+    @Label("Peak Frontier")
+    int peakFrontier;
+
+    @Label("Time per Expansion")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosPerExpansion;
+
+    @Label("Heap Allocated")
+    @DataAmount
+    long allocated;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Path Length")
+    int pathLength;
+
+    @Label("Cost")
+    long cost;
+}
@@ -0,0 +1,11 @@
+// Engine solver yang bisa dipasang ke MazeModel.solve(MazeSolver).
+// Solver tidak menyentuh flag search di grid; semua state pencarian ada di objek solver
+// sendiri (dipakai ulang antar query), jadi satu instance hanya untuk satu thread.
+// Setiap sel yang diekspansi dilaporkan ke trace.onExpand (boleh null) beserta ukuran frontier saat itu,
+// untuk visualisasi dan RunMetrics.
+public interface MazeSolver {
+
+    String name();
+
+    SolveResult solve(MazeModel model, int start, int end, MazeListener trace);
+}
@@ -0,0 +1,94 @@
+import javax.swing.*;
+import java.awt.*;
+
+// Grafik live RunMetrics untuk panel Statistics: node yang diekspansi (hijau) dan frontier (oranye)
+// terhadap waktu, diambil dari snapshot model setiap SAMPLE_MS selama run berjalan.
+// Hanya membaca snapshot (tanpa lock), jadi tidak memperlambat thread worker.
+public class MetricsChart extends JComponent {
+
+    private static final int SAMPLE_MS = 100;
+    private static final int MAX_SAMPLES = 600; // 60 detik terakhir
+
+    private static final Color C_BG = new Color(45, 45, 45);
+    private static final Color C_GRID = new Color(70, 70, 70);
+    private static final Color C_TEXT = new Color(220, 220, 220);
+    private static final Color C_EXPANDED = new Color(50, 205, 50);
+    private static final Color C_FRONTIER = new Color(255, 165, 0);
+
+    private final RunMetrics metrics;
+    private final long[] expanded = new long[MAX_SAMPLES];
+    private final int[] frontier = new int[MAX_SAMPLES];
+    private int samples, run = -1;
+    private RunMetrics.Snapshot last;
+
+    public MetricsChart(RunMetrics metrics) {
+        this.metrics = metrics;
+        setPreferredSize(new Dimension(0, 260));
+        setFont(new Font("Monospaced", Font.PLAIN, 12));
+        new Timer(SAMPLE_MS, e -> sample()).start();
+    }
+
+    private void sample() {
+        RunMetrics.Snapshot s = metrics.snapshot();
+        if (s == last) return;
+        if (s.run() != run) {
+            run = s.run();
+            samples = 0;
+        }
+        // Buffer penuh: buang setengah sampel tertua
+        if (samples == MAX_SAMPLES) {
+            int half = MAX_SAMPLES / 2;
+            System.arraycopy(expanded, half, expanded, 0, half);
+            System.arraycopy(frontier, half, frontier, 0, half);
+            samples = half;
+        }
+        expanded[samples] = s.expanded();
+        frontier[samples] = s.frontier();
+        samples++;
+        last = s;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        int w = getWidth(), h = getHeight();
+        g2.setColor(C_BG);
+        g2.fillRect(0, 0, w, h);
+        if (last == null) return;
+
+        // Teks ringkasan di atas, grafik di sisa ruang
+        g2.setFont(getFont());
+        FontMetrics fm = g2.getFontMetrics();
+        int y = fm.getAscent() + 4;
+        g2.setColor(C_TEXT);
+        for (String line : last.summary().split("\n")) {
+            g2.drawString(line, 6, y);
+            y += fm.getHeight();
+        }
+        int top = y, bottom = h - 6, left = 6, right = w - 6;
+        if (bottom - top < 20 || samples < 2) return;
+
+        g2.setColor(C_GRID);
+        g2.drawRect(left, top, right - left, bottom - top);
+
+        long maxExpanded = Math.max(1, expanded[samples - 1]);
+        int maxFrontier = 1;
+        for (int i = 0; i < samples; i++) maxFrontier = Math.max(maxFrontier, frontier[i]);
+
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int[] xs = new int[samples], ys = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            xs[i] = left + (int) ((long) (right - left) * i / (samples - 1));
+            ys[i] = bottom - (int) ((bottom - top) * expanded[i] / maxExpanded);
+        }
+        g2.setColor(C_EXPANDED);
+        g2.drawPolyline(xs, ys, samples);
+        for (int i = 0; i < samples; i++) {
+            ys[i] = bottom - (int) ((long) (bottom - top) * frontier[i] / maxFrontier);
+        }
+        g2.setColor(C_FRONTIER);
+        g2.drawPolyline(xs, ys, samples);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+    }
+}
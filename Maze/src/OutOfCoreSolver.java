@@ -0,0 +1,235 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// BFS / Dijkstra langsung di atas file MazeFile yang di-map, untuk maze yang lebih besar dari RAM
+// (index sel long, sampai ~10^10 sel). Tidak ada MazeGrid / MazeModel yang dibuat:
+//  - dinding & terrain dibaca dari mapping read-only (halaman dimuat OS sesuai kebutuhan)
+//  - state settled (1 bit) dan arah parent (2 bit) per sel ada di file scratch yang di-map
+//  - frontier = bucket per jarak (Dial, biaya 1..10) berupa SpillBucket yang tumpah ke disk
+// Untuk 10^10 sel: dinding 5 GB + terrain 10 GB (file) + scratch 3.75 GB; yang tinggal di heap
+// hanya buffer bucket. Tetangga memakai aturan yang sama dengan MazeGrid.openMask.
+public class OutOfCoreSolver implements Closeable {
+
+    public record Result(String algorithm, boolean found, long cost, long settled, long pathLength,
+                         long spilled, long elapsedNanos) {
+        public String summary() {
+            if (!found) return algorithm + " Failed to find path.";
+            return String.format("%s: cost %,d, path %,d cells, settled %,d, spilled %,d entries, %.1f s",
+                    algorithm, cost, pathLength, settled, spilled, elapsedNanos / 1e9);
+        }
+    }
+
+    static final int TERRAIN_CHUNK_SHIFT = 30; // 1 GB per mapping terrain
+
+    private final MazeFile.Header header;
+    private final int cols;
+    private final long cells;
+    private final LongStore walls;
+    private final MappedByteBuffer[] terrain;
+    private final Path scratchDir;
+    private final int bucketWords;
+    private final long[] offsets;
+
+    private LongStore settled, parents;
+    private long lastStart = -1, lastEnd = -1;
+
+    public OutOfCoreSolver(Path mazeFile, Path scratchDir) throws IOException {
+        this(mazeFile, scratchDir, 1 << 19);
+    }
+
+    public OutOfCoreSolver(Path mazeFile, Path scratchDir, int bucketWords) throws IOException {
+        this.scratchDir = scratchDir;
+        this.bucketWords = bucketWords;
+        Files.createDirectories(scratchDir);
+        try (FileChannel ch = FileChannel.open(mazeFile, StandardOpenOption.READ)) {
+            header = MazeFile.readHeader(ch);
+            cols = header.cols();
+            cells = header.cells();
+            walls = LongStore.mapped(ch, FileChannel.MapMode.READ_ONLY, header.wallsOffset(), MazeGrid.wallWords(cells));
+            if (header.hasTerrain()) {
+                int n = (int) ((cells + (1L << TERRAIN_CHUNK_SHIFT) - 1) >>> TERRAIN_CHUNK_SHIFT);
+                terrain = new MappedByteBuffer[n];
+                for (int k = 0; k < n; k++) {
+                    long from = (long) k << TERRAIN_CHUNK_SHIFT;
+                    long len = Math.min(cells - from, 1L << TERRAIN_CHUNK_SHIFT);
+                    terrain[k] = ch.map(FileChannel.MapMode.READ_ONLY, header.terrainOffset() + from, len);
+                    MazeFile.checkTerrain(terrain[k], from);
+                }
+            } else {
+                terrain = null;
+            }
+        }
+        offsets = new long[]{-cols, 1, cols, -1};
+    }
+
+    public MazeFile.Header header() { return header; }
+    public long cells() { return cells; }
+
+    int walls(long i) {
+        return (int) (walls.get(i >>> 4) >>> ((i & 15) << 2)) & MazeGrid.ALL_WALLS;
+    }
+
+    int cost(long i) {
+        if (terrain == null) return 1;
+        return terrain[(int) (i >>> TERRAIN_CHUNK_SHIFT)].get((int) (i & ((1L << TERRAIN_CHUNK_SHIFT) - 1)));
+    }
+
+    // --- Solver ---
+
+    public Result solveBfs(long start, long end) throws IOException {
+        return solve(start, end, false);
+    }
+
+    // Tanpa terrain semua biaya 1, hasilnya sama dengan BFS
+    public Result solveDijkstra(long start, long end) throws IOException {
+        return solve(start, end, terrain != null);
+    }
+
+    private Result solve(long start, long end, boolean weighted) throws IOException {
+        if (start < 0 || start >= cells || end < 0 || end >= cells) throw new IllegalArgumentException("Cell out of range");
+        long t0 = System.nanoTime();
+        String name = weighted ? "Out-of-core Dijkstra" : "Out-of-core BFS";
+        resetScratch();
+
+        // Biaya 1..maxCost, jadi (maxCost + 1) bucket melingkar cukup
+        int bucketCount = weighted ? WeightedMazeModel.COST_WATER + 1 : 2;
+        SpillBucket[] buckets = new SpillBucket[bucketCount];
+        for (int k = 0; k < bucketCount; k++) {
+            buckets[k] = new SpillBucket(scratchDir.resolve("bucket-" + k + ".bin"), bucketWords);
+        }
+
+        long settledCount = 0, d = 0, pending = 1, spilled = 0;
+        boolean found = false;
+        try {
+            // Entry = (sel << 2) | arah dari sel ke parent
+            setBit(settled, start);
+            buckets[0].add(start << 2);
+
+            while (pending > 0 && !found) {
+                SpillBucket q = buckets[(int) (d % bucketCount)];
+                while (!q.isEmpty()) {
+                    long e = q.poll();
+                    pending--;
+                    long cell = e >>> 2;
+                    // Dijkstra: entry basi dilewati, sel selesai saat pertama keluar dari bucket terkecil.
+                    // BFS: sel sudah ditandai saat masuk frontier.
+                    if (weighted && cell != start) {
+                        if (getBit(settled, cell)) continue;
+                        setBit(settled, cell);
+                        setParentDir(cell, (int) (e & 3));
+                    }
+                    settledCount++;
+                    if (cell == end) {
+                        found = true;
+                        break;
+                    }
+
+                    int open = MazeGrid.openMask(walls(cell), cell, cols, cells);
+                    for (int dir = 0; dir < 4; dir++) {
+                        if ((open & (1 << dir)) == 0) continue;
+                        long next = cell + offsets[dir];
+                        if (getBit(settled, next)) continue;
+                        int back = MazeGrid.opposite(dir);
+                        if (!weighted) {
+                            setBit(settled, next);
+                            setParentDir(next, back);
+                        }
+                        long nd = d + (weighted ? cost(next) : 1);
+                        buckets[(int) (nd % bucketCount)].add(next << 2 | back);
+                        pending++;
+                    }
+                }
+                if (!found) d++;
+            }
+        } finally {
+            for (SpillBucket b : buckets) {
+                spilled += b.spilledTotal();
+                b.close();
+            }
+        }
+
+        long pathLength = 0;
+        if (found) {
+            lastStart = start;
+            lastEnd = end;
+            for (long c = end; ; c = c + offsets[parentDir(c)]) {
+                pathLength++;
+                if (c == start) break;
+            }
+        } else {
+            lastStart = lastEnd = -1;
+        }
+        return new Result(name, found, found ? d : -1, settledCount, pathLength, spilled, System.nanoTime() - t0);
+    }
+
+    // Tulis path solve terakhir ke file sebagai long little-endian, urut dari end ke start
+    public void writePath(Path out) throws IOException {
+        if (lastEnd < 0) throw new IllegalStateException("No path: last solve did not find the end");
+        try (FileChannel ch = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            for (long c = lastEnd; ; c = c + offsets[parentDir(c)]) {
+                if (!buf.hasRemaining()) flush(ch, buf);
+                buf.putLong(c);
+                if (c == lastStart) break;
+            }
+            flush(ch, buf);
+        }
+    }
+
+    private static void flush(FileChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+    }
+
+    // --- Scratch (file sparse yang di-map, isinya nol tanpa perlu diisi) ---
+
+    private void resetScratch() throws IOException {
+        settled = scratch("settled.bin", (cells + 63) >>> 6);
+        parents = scratch("parents.bin", (cells + 31) >>> 5);
+    }
+
+    private LongStore scratch(String name, long words) throws IOException {
+        Path file = scratchDir.resolve(name);
+        Files.deleteIfExists(file); // mapping lama tetap valid sampai di-GC
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(words * Long.BYTES);
+            return LongStore.mapped(raf.getChannel(), FileChannel.MapMode.READ_WRITE, 0, words);
+        }
+    }
+
+    private static boolean getBit(LongStore s, long i) {
+        return (s.get(i >>> 6) & (1L << i)) != 0;
+    }
+
+    private static void setBit(LongStore s, long i) {
+        long w = i >>> 6;
+        s.set(w, s.get(w) | (1L << i));
+    }
+
+    private int parentDir(long i) {
+        return (int) (parents.get(i >>> 5) >>> ((i & 31) << 1)) & 3;
+    }
+
+    private void setParentDir(long i, int dir) {
+        long w = i >>> 5;
+        int shift = (int) (i & 31) << 1;
+        parents.set(w, (parents.get(w) & ~(3L << shift)) | ((long) dir << shift));
+    }
+
+    @Override
+    public void close() throws IOException {
+        settled = parents = null;
+        Files.deleteIfExists(scratchDir.resolve("settled.bin"));
+        Files.deleteIfExists(scratchDir.resolve("parents.bin"));
+    }
+}
@@ -0,0 +1,53 @@
+import java.util.BitSet;
+import java.util.Random;
+
+// Prim dengan frontier ter-index: bitset "sudah di frontier" + hapus swap-with-last,
+// jadi setiap langkah O(1) dan tidak ada alokasi per sel.
+public class PrimGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Prim"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        IntList frontier = new IntList();
+        BitSet inFrontier = new BitSet(grid.size());
+        int[] neighbors = new int[4];
+
+        int start = 0;
+        grid.setVisited(start, true);
+        addFrontier(grid, start, frontier, inFrontier);
+
+        while (!frontier.isEmpty()) {
+            int current = frontier.removeSwap(rand.nextInt(frontier.size()));
+            int count = visitedNeighbors(grid, current, neighbors);
+            if (count > 0) {
+                int neighbor = neighbors[rand.nextInt(count)];
+                grid.removeWallBetween(current, neighbor);
+                grid.setVisited(current, true);
+                addFrontier(grid, current, frontier, inFrontier);
+                if (listener != null) listener.onGenerateStep(current, frontier.size());
+            }
+        }
+    }
+
+    private static void addFrontier(MazeGrid grid, int cell, IntList frontier, BitSet inFrontier) {
+        for (int d = 0; d < 4; d++) {
+            int n = grid.neighbor(cell, d);
+            if (n >= 0 && !grid.isVisited(n) && !inFrontier.get(n)) {
+                inFrontier.set(n);
+                frontier.add(n);
+            }
+        }
+    }
+
+    // Isi out dengan tetangga yang sudah visited, kembalikan jumlahnya (tanpa alokasi)
+    private static int visitedNeighbors(MazeGrid grid, int c, int[] out) {
+        int count = 0;
+        for (int d = 0; d < 4; d++) {
+            int n = grid.neighbor(c, d);
+            if (n >= 0 && grid.isVisited(n)) out[count++] = n;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,90 @@
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+
+// Jendela race mode: hasil semua solver berdampingan (status, waktu wall-clock, node diekspansi,
+// frontier puncak, biaya & panjang path). Tabel di-refresh dari RunMetrics setiap REFRESH_MS
+// selama race berjalan; menutup jendela atau tombol Cancel membatalkan solver yang belum selesai.
+public class RaceDialog extends JDialog {
+
+    private static final int REFRESH_MS = 100;
+    private static final String[] COLUMNS = {"Algorithm", "Status", "Time (ms)", "Expanded", "Peak Frontier", "Cost", "Path"};
+
+    private final SolverRace race;
+    private final Timer refresh;
+
+    public RaceDialog(Frame owner, MazeModel snapshot) {
+        super(owner, "Race: " + snapshot.getRows() + " x " + snapshot.getCols(), false);
+        race = new SolverRace(snapshot, SolverRace.defaultSolvers());
+
+        RaceTable table = new RaceTable();
+        JTable view = new JTable(table);
+        view.setFont(new Font("Monospaced", Font.PLAIN, 14));
+        view.setRowHeight(24);
+        view.setFocusable(false);
+        view.setRowSelectionAllowed(false);
+
+        JButton btnCancel = new JButton("Cancel");
+        btnCancel.addActionListener(e -> race.cancel());
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.add(btnCancel);
+
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setBorder(new EmptyBorder(10, 10, 10, 10));
+        content.add(new JScrollPane(view), BorderLayout.CENTER);
+        content.add(buttons, BorderLayout.SOUTH);
+        setContentPane(content);
+        setSize(820, 220);
+        setLocationRelativeTo(owner);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        refresh = new Timer(REFRESH_MS, e -> {
+            table.fireTableRowsUpdated(0, race.entries().size() - 1);
+            if (race.isFinished()) {
+                ((Timer) e.getSource()).stop();
+                btnCancel.setEnabled(false);
+            }
+        });
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                refresh.stop();
+                race.cancel();
+            }
+        });
+    }
+
+    // Buka jendela dan mulai race di executor bersama
+    public static void start(Frame owner, MazeModel snapshot) {
+        RaceDialog dialog = new RaceDialog(owner, snapshot);
+        dialog.setVisible(true);
+        dialog.race.start(Workers.POOL);
+        dialog.refresh.start();
+    }
+
+    private class RaceTable extends AbstractTableModel {
+        @Override public int getRowCount() { return race.entries().size(); }
+        @Override public int getColumnCount() { return COLUMNS.length; }
+        @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            SolverRace.Entry e = race.entries().get(row);
+            RunMetrics.Snapshot m = e.metrics.snapshot();
+            SolveResult r = e.result();
+            switch (column) {
+                case 0: return e.solver.name();
+                case 1: return r != null && !r.found ? "NO PATH" : e.status().toString();
+                case 2:
+                    long nanos = e.status() == SolverRace.Status.RUNNING ? race.elapsedNanos() : e.wallNanos();
+                    return String.format("%,.1f", nanos / 1e6);
+                case 3: return String.format("%,d", m.expanded());
+                case 4: return String.format("%,d", m.peakFrontier());
+                case 5: return r != null && r.found ? String.format("%,d", r.cost) : "-";
+                case 6: return r != null && r.found ? String.format("%,d", r.path.length) : "-";
+                default: return "";
+            }
+        }
+    }
+}
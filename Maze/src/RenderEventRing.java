@@ -0,0 +1,82 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Ring buffer terbatas tanpa lock (banyak producer, satu consumer) untuk event render.
+// Worker (generator / solver) menulis event, EDT mengurasnya sekali per frame.
+// Setiap slot punya nomor urut sendiri (skema Vyukov): producer mengklaim posisi dengan CAS pada tail,
+// menulis isi slot, lalu mempublikasikannya lewat sequence; consumer hanya membaca slot yang sudah dipublikasikan.
+// Event = (kind << 32) | cell, ditambah payload Object opsional (mis. teks statistik).
+public class RenderEventRing {
+
+    private final int mask;
+    private final long[] events;
+    private final Object[] payloads;
+    private final AtomicLongArray sequence;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // hanya disentuh consumer
+
+    public RenderEventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        mask = capacity - 1;
+        events = new long[capacity];
+        payloads = new Object[capacity];
+        sequence = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) sequence.set(i, i);
+    }
+
+    public static long encode(int kind, int cell) {
+        return ((long) kind << 32) | (cell & 0xFFFFFFFFL);
+    }
+
+    public static int kind(long event) { return (int) (event >>> 32); }
+    public static int cell(long event) { return (int) event; }
+
+    // --- Producer ---
+
+    // Tulis event, atau false jika ring penuh
+    public boolean offer(long event, Object payload) {
+        while (true) {
+            long t = tail.get();
+            int slot = (int) t & mask;
+            long diff = sequence.get(slot) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) {
+                    events[slot] = event;
+                    payloads[slot] = payload;
+                    sequence.set(slot, t + 1); // publikasi (volatile write)
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    // --- Consumer (satu thread) ---
+
+    public boolean isEmpty() {
+        return sequence.get((int) head & mask) != head + 1;
+    }
+
+    // Event berikutnya (hanya valid jika !isEmpty())
+    public long peek() {
+        return events[(int) head & mask];
+    }
+
+    public Object peekPayload() {
+        return payloads[(int) head & mask];
+    }
+
+    // Lepas slot yang sudah dibaca supaya bisa dipakai producer lagi
+    public void advance() {
+        int slot = (int) head & mask;
+        payloads[slot] = null;
+        sequence.set(slot, head + mask + 1);
+        head++;
+    }
+
+    // Buang semua event yang tertunda (consumer)
+    public void clear() {
+        while (!isEmpty()) advance();
+    }
+}
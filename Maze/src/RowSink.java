@@ -0,0 +1,16 @@
+// Tujuan baris maze yang sudah selesai dari generator streaming (EllerGenerator).
+// walls[c] berisi mask dinding 4 bit sel (row, c) dengan urutan bit sama seperti MazeGrid.
+// Array walls dipakai ulang oleh generator, jadi salin jika perlu disimpan.
+@FunctionalInterface
+public interface RowSink {
+
+    void acceptRow(long row, byte[] walls);
+
+    // Sink yang menulis langsung ke MazeGrid (untuk maze yang muat di memori)
+    static RowSink toGrid(MazeGrid grid) {
+        return (row, walls) -> {
+            int base = grid.index((int) row, 0);
+            for (int c = 0; c < walls.length; c++) grid.setWalls(base + c, walls[c]);
+        };
+    }
+}
@@ -0,0 +1,147 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CancellationException;
+
+// Metrik terstruktur untuk generator / solver yang sedang (atau terakhir) berjalan:
+// node yang diekspansi, frontier (saat ini & puncak), ns per ekspansi, heap yang dialokasikan thread
+// worker, panjang & biaya path. Ditulis oleh satu thread worker; thread lain (mis. EDT untuk grafik)
+// membaca lewat snapshot() yang dipublikasikan setiap PUBLISH_EVERY ekspansi, bukan per langkah,
+// jadi tidak ada write volatile di inner loop. Setiap run juga dikirim sebagai event JFR (MazeRunEvent).
+// Publikasi berkala itu sekaligus titik batal: jika thread worker di-interrupt (Future.cancel(true)),
+// expand() melempar CancellationException.
+public class RunMetrics {
+
+    public enum Kind { GENERATE, SOLVE }
+
+    // Nilai yang konsisten satu sama lain pada satu waktu (immutable)
+    public record Snapshot(int run, Kind kind, String algorithm, boolean running, long cells, long expanded,
+                           int frontier, int peakFrontier, long elapsedNanos, long allocatedBytes,
+                           int pathLength, long cost) {
+
+        public double nanosPerExpansion() {
+            return expanded == 0 ? 0 : (double) elapsedNanos / expanded;
+        }
+
+        public String summary() {
+            return String.format("""
+                %s
+                Expanded: %,d
+                Peak Frontier: %,d
+                ns / Expansion: %.0f
+                Allocated: %,d KB
+                """, algorithm, expanded, peakFrontier, nanosPerExpansion(), allocatedBytes >> 10);
+        }
+    }
+
+    static final int PUBLISH_EVERY = 1024;          // harus pangkat 2
+    static final long PROGRESS_NANOS = 10_000_000;  // interval MazeProgressEvent
+
+    // Alokasi per thread (HotSpot); jika tidak tersedia, allocatedBytes selalu 0
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long allocatedNow() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    // State thread worker (tidak dibaca thread lain)
+    private int run;
+    private Kind kind = Kind.SOLVE;
+    private String algorithm = "";
+    private long cells, expanded, t0, alloc0, lastProgress;
+    private int frontier, peakFrontier;
+    private MazeRunEvent event;
+
+    private volatile Snapshot snapshot = new Snapshot(0, Kind.SOLVE, "", false, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    public Snapshot snapshot() { return snapshot; }
+
+    public void begin(Kind kind, String algorithm, long cells) {
+        run++;
+        this.kind = kind;
+        this.algorithm = algorithm;
+        this.cells = cells;
+        expanded = 0;
+        frontier = peakFrontier = 0;
+        event = new MazeRunEvent();
+        event.begin();
+        alloc0 = allocatedNow();
+        t0 = lastProgress = System.nanoTime();
+        publish(true, 0, 0);
+    }
+
+    // Satu ekspansi (solver) / langkah (generator); frontier 0 jika algoritma tidak punya frontier
+    public void expand(int frontier) {
+        expanded++;
+        this.frontier = frontier;
+        if (frontier > peakFrontier) peakFrontier = frontier;
+        if ((expanded & (PUBLISH_EVERY - 1)) == 0) progress();
+    }
+
+    // Banyak ekspansi sekaligus (mis. satu gelombang FlowField yang diproses paralel)
+    public void expandAll(int count, int frontier) {
+        long before = expanded;
+        expanded += count;
+        this.frontier = frontier;
+        if (frontier > peakFrontier) peakFrontier = frontier;
+        // Melewati kelipatan PUBLISH_EVERY (pangkat 2) berarti ada bit >= PUBLISH_EVERY yang berubah
+        if ((before ^ expanded) >= PUBLISH_EVERY) progress();
+    }
+
+    private void progress() {
+        if (Thread.currentThread().isInterrupted()) {
+            publish(false, 0, 0);
+            throw new CancellationException(algorithm + " cancelled");
+        }
+        Snapshot s = publish(true, 0, 0);
+        if (s.elapsedNanos - (lastProgress - t0) < PROGRESS_NANOS) return;
+        lastProgress = t0 + s.elapsedNanos;
+        MazeProgressEvent e = new MazeProgressEvent();
+        if (e.isEnabled()) {
+            e.algorithm = algorithm;
+            e.nodesExpanded = expanded;
+            e.frontier = frontier;
+            e.allocated = s.allocatedBytes;
+            e.commit();
+        }
+    }
+
+    public void end(boolean found, int pathLength, long cost) {
+        Snapshot s = publish(false, pathLength, cost);
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind == Kind.GENERATE ? "generate" : "solve";
+            event.algorithm = algorithm;
+            event.cells = cells;
+            event.nodesExpanded = expanded;
+            event.peakFrontier = peakFrontier;
+            event.nanosPerExpansion = (long) s.nanosPerExpansion();
+            event.allocated = s.allocatedBytes;
+            event.found = found;
+            event.pathLength = pathLength;
+            event.cost = cost;
+            event.commit();
+        }
+        event = null;
+    }
+
+    // Untuk finally: run yang belum di-end (dibatalkan / exception) ditutup sebagai tidak ditemukan, supaya
+    // grafik tidak terus menampilkannya berjalan dan event JFR tetap tercatat
+    public void endIfRunning() {
+        if (event != null) end(false, 0, -1);
+    }
+
+    private Snapshot publish(boolean running, int pathLength, long cost) {
+        Snapshot s = new Snapshot(run, kind, algorithm, running, cells, expanded, frontier, peakFrontier,
+                System.nanoTime() - t0, allocatedNow() - alloc0, pathLength, cost);
+        snapshot = s;
+        return s;
+    }
+}
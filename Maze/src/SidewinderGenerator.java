@@ -0,0 +1,36 @@
+import java.util.Random;
+
+// Sidewinder: diproses baris per baris. Baris paling atas menjadi satu koridor panjang,
+// baris lain membentuk "run" ke kanan yang ditutup dengan satu bukaan ke atas.
+// Sangat cepat dan hanya butuh O(1) state tambahan, tapi punya bias koridor horizontal.
+public class SidewinderGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Sidewinder"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        int rows = grid.rows, cols = grid.cols;
+
+        for (int r = 0; r < rows; r++) {
+            int runStart = 0;
+            for (int c = 0; c < cols; c++) {
+                int cell = grid.index(r, c);
+                grid.setVisited(cell, true);
+
+                boolean atEast = c == cols - 1;
+                boolean closeRun = r > 0 && (atEast || rand.nextBoolean());
+
+                if (closeRun) {
+                    // Buka ke atas dari sel acak di dalam run
+                    int pick = runStart + rand.nextInt(c - runStart + 1);
+                    grid.carve(grid.index(r, pick), MazeGrid.TOP);
+                    runStart = c + 1;
+                } else if (!atEast) {
+                    grid.carve(cell, MazeGrid.RIGHT);
+                }
+                if (listener != null) listener.onGenerateStep(cell);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// Hasil satu kali solve: dipakai GUI (teks statistik) maupun batch job (angka mentah)
+public class SolveResult {
+    public final String algorithm;
+    public final boolean found;
+    public final boolean weighted;
+    public final int nodesVisited;
+    public final int totalCells;
+    public final long cost;
+    public final int[] path;
+    public final long elapsedNanos;
+
+    public SolveResult(String algorithm, boolean found, boolean weighted, int nodesVisited, int totalCells,
+                       long cost, int[] path, long elapsedNanos) {
+        this.algorithm = algorithm;
+        this.found = found;
+        this.weighted = weighted;
+        this.nodesVisited = nodesVisited;
+        this.totalCells = totalCells;
+        this.cost = cost;
+        this.path = path;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Format teks sama seperti yang dulu ditulis langsung di Maze / WeightedMaze
+    public String summary() {
+        if (!found) return algorithm + " Failed to find path.";
+        if (weighted) {
+            return String.format("""
+                Algorithm: %s
+                ----------------
+                Status: Finished
+                Total Cost: %d
+                Nodes Visited: %d
+                Efficiency: %.2f%%
+                (Map has Loops)
+                """, algorithm, cost, nodesVisited, ((double) nodesVisited / totalCells) * 100);
+        }
+        return String.format("""
+            Algorithm: %s
+            ----------------
+            Status: Finished
+            Nodes Visited: %d
+            Path Found: Yes
+            (Unweighted)
+            """, algorithm, nodesVisited);
+    }
+}
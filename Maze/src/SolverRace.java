@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Race mode: beberapa solver berjalan bersamaan di atas satu snapshot maze (MazeModel.snapshot()).
+// Snapshot hanya dibaca, dan setiap solver punya state sendiri (instance MazeSolver + RunMetrics),
+// jadi tidak ada state bersama antar thread. Waktu dihitung wall-clock dari start race yang sama.
+public class SolverRace {
+
+    public enum Status { WAITING, RUNNING, DONE, CANCELLED, FAILED }
+
+    public static final class Entry {
+        public final MazeSolver solver;
+        public final RunMetrics metrics = new RunMetrics();
+        private volatile Status status = Status.WAITING;
+        private volatile SolveResult result;
+        private volatile long wallNanos;
+        private Future<?> future;
+
+        Entry(MazeSolver solver) {
+            this.solver = solver;
+        }
+
+        public Status status() { return status; }
+        public SolveResult result() { return result; }
+        public long wallNanos() { return wallNanos; }
+    }
+
+    private final MazeModel snapshot;
+    private final List<Entry> entries = new ArrayList<>();
+    private long startNanos;
+
+    public SolverRace(MazeModel snapshot, List<MazeSolver> solvers) {
+        this.snapshot = snapshot;
+        for (MazeSolver s : solvers) entries.add(new Entry(s));
+    }
+
+    // BFS, DFS, dead-end filling, Dijkstra, A* (semua dengan state sendiri)
+    public static List<MazeSolver> defaultSolvers() {
+        return List.of(new FirstSearchSolver(true), new FirstSearchSolver(false), new DeadEndFillSolver(),
+                new IndexedDijkstraSolver(false), new IndexedDijkstraSolver(true));
+    }
+
+    public List<Entry> entries() { return entries; }
+
+    // Mulai semua solver di pool (satu task per solver). Dipanggil sekali.
+    public void start(ExecutorService pool) {
+        startNanos = System.nanoTime();
+        for (Entry e : entries) {
+            e.future = pool.submit(() -> run(e));
+        }
+    }
+
+    private void run(Entry e) {
+        if (Thread.currentThread().isInterrupted()) {
+            e.status = Status.CANCELLED;
+            return;
+        }
+        e.status = Status.RUNNING;
+        int start = snapshot.getStartCell(), end = snapshot.getEndCell();
+        e.metrics.begin(RunMetrics.Kind.SOLVE, e.solver.name(), snapshot.getGrid().size());
+        try {
+            SolveResult r = e.solver.solve(snapshot, start, end, new MazeListener() {
+                @Override
+                public void onExpand(int cell, int frontier) {
+                    e.metrics.expand(frontier);
+                }
+
+                @Override
+                public void onVisit(int cell) {
+                    e.metrics.expand(0);
+                }
+            });
+            e.metrics.end(r.found, r.path.length, r.cost);
+            e.wallNanos = System.nanoTime() - startNanos;
+            e.result = r;
+            e.status = Status.DONE;
+        } catch (CancellationException ex) {
+            e.wallNanos = System.nanoTime() - startNanos;
+            e.status = Status.CANCELLED;
+        } finally {
+            e.metrics.endIfRunning();
+            // Exception lain (mis. OutOfMemoryError untuk maze besar) tetap diteruskan ke Future
+            if (e.status == Status.RUNNING) {
+                e.wallNanos = System.nanoTime() - startNanos;
+                e.status = Status.FAILED;
+            }
+        }
+    }
+
+    // Batalkan semua solver yang belum selesai (interrupt, berhenti di titik batal RunMetrics)
+    public void cancel() {
+        for (Entry e : entries) {
+            if (e.future != null) e.future.cancel(true);
+            if (e.status == Status.WAITING) e.status = Status.CANCELLED;
+        }
+    }
+
+    public boolean isFinished() {
+        for (Entry e : entries) {
+            if (e.status == Status.WAITING || e.status == Status.RUNNING) return false;
+        }
+        return true;
+    }
+
+    // Waktu sejak start (untuk solver yang masih berjalan)
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
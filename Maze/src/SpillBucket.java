@@ -0,0 +1,90 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Kantong long (urutan tidak dijaga) untuk frontier OutOfCoreSolver.
+// Isi ditampung di buffer memori; jika penuh, buffer ditulis berurutan ke file spill.
+// Saat dikuras, buffer memori diambil dulu lalu file dibaca kembali per blok, lalu file dipotong ke 0.
+// Semua I/O disk berurutan (append / baca maju), cocok untuk frontier yang lebih besar dari RAM.
+public class SpillBucket implements Closeable {
+
+    private final long[] buf;
+    private int size;
+    private final Path file;
+    private FileChannel ch;
+    private long spilledWords, readWords, spilledTotalWords;
+    private final ByteBuffer io;
+    private final LongBuffer ioLongs;
+
+    public SpillBucket(Path file, int bufferWords) {
+        this.file = file;
+        this.buf = new long[bufferWords];
+        this.io = ByteBuffer.allocateDirect(bufferWords * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.ioLongs = io.asLongBuffer();
+    }
+
+    public void add(long v) throws IOException {
+        if (size == buf.length) spill();
+        buf[size++] = v;
+    }
+
+    public boolean isEmpty() {
+        return size == 0 && readWords == spilledWords;
+    }
+
+    // Ambil satu elemen (panggil hanya jika !isEmpty()); selama dikuras tidak boleh ada add()
+    public long poll() throws IOException {
+        if (size == 0) refill();
+        return buf[--size];
+    }
+
+    // Total elemen yang pernah ditulis ke disk (statistik)
+    public long spilledTotal() { return spilledTotalWords; }
+
+    private void spill() throws IOException {
+        if (ch == null) {
+            ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        ioLongs.clear();
+        ioLongs.put(buf, 0, size);
+        io.clear().limit(size * Long.BYTES);
+        long pos = spilledWords * Long.BYTES;
+        while (io.hasRemaining()) pos += ch.write(io, pos);
+        spilledWords += size;
+        spilledTotalWords += size;
+        size = 0;
+    }
+
+    private void refill() throws IOException {
+        int n = (int) Math.min(buf.length, spilledWords - readWords);
+        io.clear().limit(n * Long.BYTES);
+        long pos = readWords * Long.BYTES;
+        while (io.hasRemaining()) {
+            int r = ch.read(io, pos);
+            if (r < 0) throw new IOException("Spill file truncated: " + file);
+            pos += r;
+        }
+        ioLongs.clear();
+        ioLongs.get(buf, 0, n);
+        size = n;
+        readWords += n;
+        if (readWords == spilledWords) {
+            // Semua isi file sudah kembali ke memori: kosongkan file untuk dipakai lagi
+            ch.truncate(0);
+            spilledWords = readWords = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ch != null) ch.close();
+        Files.deleteIfExists(file);
+    }
+}
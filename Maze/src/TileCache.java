@@ -0,0 +1,61 @@
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache LRU untuk tile hasil rasterisasi (key = koordinat tile (tx, ty)).
+// Tile yang dikeluarkan disimpan sebagai cadangan dan dipakai ulang, jadi pan / zoom tidak terus-menerus
+// mengalokasikan BufferedImage baru. Hanya dipakai dari EDT.
+public class TileCache {
+
+    public final int tileSize;
+    private final int capacity;
+    private final ArrayDeque<BufferedImage> spare = new ArrayDeque<>();
+    private final LinkedHashMap<Long, BufferedImage> tiles;
+
+    public TileCache(int tileSize, int capacity) {
+        this.tileSize = tileSize;
+        this.capacity = capacity;
+        this.tiles = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+                if (size() <= TileCache.this.capacity) return false;
+                spare.push(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public static long key(int tx, int ty) {
+        return ((long) tx << 32) | (ty & 0xFFFFFFFFL);
+    }
+
+    // Tile yang sudah ada (dan tandai baru dipakai), atau null
+    public BufferedImage get(int tx, int ty) {
+        return tiles.get(key(tx, ty));
+    }
+
+    // Image kosong untuk dirasterisasi (dari cadangan jika ada)
+    public BufferedImage allocate() {
+        BufferedImage img = spare.poll();
+        return img != null ? img : new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_RGB);
+    }
+
+    public void put(int tx, int ty, BufferedImage img) {
+        BufferedImage old = tiles.put(key(tx, ty), img);
+        if (old != null && old != img) spare.push(old);
+    }
+
+    public void remove(int tx, int ty) {
+        BufferedImage old = tiles.remove(key(tx, ty));
+        if (old != null) spare.push(old);
+    }
+
+    public void clear() {
+        spare.addAll(tiles.values());
+        tiles.clear();
+        while (spare.size() > capacity) spare.poll();
+    }
+
+    public int size() { return tiles.size(); }
+}
@@ -0,0 +1,160 @@
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Generator paralel untuk maze sangat besar:
+//  1. Grid dibagi menjadi tile; setiap tile di-generate sebagai perfect maze sendiri
+//     (pakai generator lain) secara paralel di ForkJoinPool, ke grid lokal per tile.
+//  2. Hasil tile disalin ke grid utama, juga paralel, dibagi per rentang 16 sel supaya
+//     setiap word nibble hanya ditulis oleh satu thread (tanpa lock / CAS).
+//  3. Tile-tile disambung dengan spanning tree acak (Kruskal di atas graf tile):
+//     setiap edge tree membuka tepat satu dinding di perbatasan dua tile.
+// Karena setiap tile adalah tree dan tile-tile disambung oleh tree, hasilnya tetap perfect maze.
+public class TiledGenerator implements MazeGenerator {
+
+    // Minimal sel per task salin (kelipatan 64 supaya word walls & bitset tidak terbagi)
+    private static final int COPY_CHUNK = 1 << 16;
+
+    private final MazeGenerator inner;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public TiledGenerator(MazeGenerator inner, int tileSize) {
+        this(inner, tileSize, ForkJoinPool.commonPool());
+    }
+
+    public TiledGenerator(MazeGenerator inner, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 2) throw new IllegalArgumentException("Tile size too small: " + tileSize);
+        this.inner = inner;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    @Override
+    public String name() { return "Tiled " + inner.name(); }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        int tileRows = (grid.rows + tileSize - 1) / tileSize;
+        int tileCols = (grid.cols + tileSize - 1) / tileSize;
+        int tiles = tileRows * tileCols;
+
+        // Seed per tile diambil berurutan supaya hasil deterministik untuk seed yang sama
+        long[] seeds = new long[tiles];
+        for (int t = 0; t < tiles; t++) seeds[t] = rand.nextLong();
+
+        MazeGrid[] local = new MazeGrid[tiles];
+        pool.invoke(new TileTask(grid, tileCols, seeds, local, 0, tiles));
+        pool.invoke(new CopyTask(grid, tileCols, local, 0, grid.size()));
+
+        joinTiles(grid, tileRows, tileCols, rand, listener);
+    }
+
+    // --- Fase 1: generate tile ---
+    private final class TileTask extends RecursiveAction {
+        private final MazeGrid grid;
+        private final int tileCols;
+        private final long[] seeds;
+        private final MazeGrid[] local;
+        private final int from, to;
+
+        TileTask(MazeGrid grid, int tileCols, long[] seeds, MazeGrid[] local, int from, int to) {
+            this.grid = grid;
+            this.tileCols = tileCols;
+            this.seeds = seeds;
+            this.local = local;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TileTask(grid, tileCols, seeds, local, from, mid),
+                        new TileTask(grid, tileCols, seeds, local, mid, to));
+                return;
+            }
+            int tr = from / tileCols, tc = from % tileCols;
+            int h = Math.min(tileSize, grid.rows - tr * tileSize);
+            int w = Math.min(tileSize, grid.cols - tc * tileSize);
+            MazeGrid tile = new MazeGrid(h, w);
+            inner.generate(tile, new Random(seeds[from]), null);
+            local[from] = tile;
+        }
+    }
+
+    // --- Fase 2: salin tile ke grid utama per rentang sel ---
+    private final class CopyTask extends RecursiveAction {
+        private final MazeGrid grid;
+        private final int tileCols;
+        private final MazeGrid[] local;
+        private final int from, to;
+
+        CopyTask(MazeGrid grid, int tileCols, MazeGrid[] local, int from, int to) {
+            this.grid = grid;
+            this.tileCols = tileCols;
+            this.local = local;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > COPY_CHUNK) {
+                int mid = ((from + to) >>> 1) & ~63;
+                invokeAll(new CopyTask(grid, tileCols, local, from, mid),
+                        new CopyTask(grid, tileCols, local, mid, to));
+                return;
+            }
+            int cols = grid.cols;
+            for (int i = from; i < to; i++) {
+                int r = i / cols, c = i % cols;
+                MazeGrid tile = local[(r / tileSize) * tileCols + (c / tileSize)];
+                int t = tile.index(r % tileSize, c % tileSize);
+                grid.setWalls(i, tile.walls(t));
+                grid.setVisited(i, true);
+            }
+        }
+    }
+
+    // --- Fase 3: sambungkan tile dengan spanning tree acak ---
+    private void joinTiles(MazeGrid grid, int tileRows, int tileCols, Random rand, MazeListener listener) {
+        int tiles = tileRows * tileCols;
+        // Edge id = tile * 2 + (0 = ke kanan, 1 = ke bawah)
+        int[] edges = new int[2 * tiles];
+        int e = 0;
+        for (int t = 0; t < tiles; t++) {
+            if (t % tileCols < tileCols - 1) edges[e++] = t << 1;
+            if (t < tiles - tileCols) edges[e++] = (t << 1) | 1;
+        }
+        for (int i = e - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+
+        KruskalGenerator.UnionFind sets = new KruskalGenerator.UnionFind(tiles);
+        for (int k = 0; k < e; k++) {
+            int t = edges[k] >>> 1;
+            boolean right = (edges[k] & 1) == 0;
+            int other = right ? t + 1 : t + tileCols;
+            if (!sets.union(t, other)) continue;
+
+            int tr = t / tileCols, tc = t % tileCols;
+            int cell;
+            if (right) {
+                // Dinding kanan pada kolom terakhir tile, baris acak di dalam tile
+                int h = Math.min(tileSize, grid.rows - tr * tileSize);
+                cell = grid.index(tr * tileSize + rand.nextInt(h), tc * tileSize + tileSize - 1);
+                grid.carve(cell, MazeGrid.RIGHT);
+            } else {
+                int w = Math.min(tileSize, grid.cols - tc * tileSize);
+                cell = grid.index(tr * tileSize + tileSize - 1, tc * tileSize + rand.nextInt(w));
+                grid.carve(cell, MazeGrid.BOTTOM);
+            }
+            if (listener != null) listener.onGenerateStep(cell);
+        }
+    }
+}
@@ -1,233 +1,145 @@
-import javax.swing.*;
 import java.awt.*;
-import java.util.*;
-import java.util.List;
+import java.util.Random;
 
+// Tampilan untuk WeightedMazeModel (terrain + Dijkstra / A*)
 public class WeightedMaze extends Maze {
 
-    private static final int COST_GRASS = 1;
-    private static final int COST_MUD = 5;
-    private static final int COST_WATER = 10;
-
     private final Color C_GRASS = new Color(0, 100, 0);
     private final Color C_MUD = new Color(139, 69, 19);
     private final Color C_WATER = new Color(0, 0, 205);
-
-    private int[][] terrainGrid;
-    private boolean useTerrainMode = false;
+    private final Color C_LABEL = new Color(255, 255, 255, 180);
+    private final Color C_SCAN = new Color(255, 255, 255, 100);
+    private final Color C_ARROW = new Color(255, 255, 255, 200);
+    private final Stroke STROKE_ARROW = new BasicStroke(1.5f);
+    // Gradasi biaya flow field: dekat target biru, jauh merah (semi transparan di atas terrain)
+    private static final Color[] FIELD_RAMP = new Color[64];
+    static {
+        for (int k = 0; k < FIELD_RAMP.length; k++) {
+            Color c = Color.getHSBColor(0.66f * (1 - k / (float) (FIELD_RAMP.length - 1)), 0.9f, 1f);
+            FIELD_RAMP[k] = new Color(c.getRed(), c.getGreen(), c.getBlue(), 110);
+        }
+    }
+    private Font labelFont;
+    private boolean showFlowField = true;
 
     public WeightedMaze() {
-        super();
-        terrainGrid = new int[ROWS][COLS];
+        this(new WeightedMazeModel(DEFAULT_ROWS, DEFAULT_COLS));
+    }
+
+    public WeightedMaze(WeightedMazeModel model) {
+        super(model);
     }
 
     @Override
-    public void generatePrim() {
-        useTerrainMode = false;
-        super.generatePrim();
+    public WeightedMazeModel getModel() {
+        return (WeightedMazeModel) model;
     }
 
     public void generateWeightedTerrain() {
-        if (isGenerating || isSolving) return;
-        useTerrainMode = true;
-
-        // 1. Generate Struktur Dasar (Perfect Maze)
-        super.generatePrim();
-
-        new Thread(() -> {
-            try { Thread.sleep(200); } catch(Exception e){} // Tunggu Prim selesai visualisasi kasar
-
-            Random rand = new Random();
-
-            // 2. Assign Weights (Terrain)
-            for (int r = 0; r < ROWS; r++) {
-                for (int c = 0; c < COLS; c++) {
-                    double p = rand.nextDouble();
-                    if (p < 0.60) terrainGrid[r][c] = COST_GRASS;
-                    else if (p < 0.85) terrainGrid[r][c] = COST_MUD;
-                    else terrainGrid[r][c] = COST_WATER;
-                }
-            }
-            terrainGrid[0][0] = COST_GRASS;
-            terrainGrid[ROWS-1][COLS-1] = COST_GRASS;
-
-            // 3. [PENTING] Tambahkan Loops agar ada banyak jalur alternatif!
-            // Kita acak menghapus dinding tambahan sebanyak 10% dari total sel
-            addLoops(rand, (ROWS * COLS) / 10);
-
-            if (statsCallback != null) statsCallback.accept("Terrain Generated with Loops.\nMultiple paths available for comparison.");
-            repaint();
-        }).start();
+        runGenerator(getModel()::generateWeightedTerrain);
     }
 
-    // Method Baru: Menghapus dinding secara acak untuk membuat jalur alternatif
-    private void addLoops(Random rand, int count) {
-        int removed = 0;
-        while (removed < count) {
-            int r = rand.nextInt(ROWS - 2) + 1; // Hindari pinggir
-            int c = rand.nextInt(COLS - 2) + 1;
-
-            Cell cell = grid[r][c];
-            // Pilih dinding acak untuk dihapus (0=Top, 1=Right, 2=Bottom, 3=Left)
-            int wallIdx = rand.nextInt(4);
-
-            // Cek apakah dinding itu masih ada
-            if (cell.walls[wallIdx]) {
-                // Tentukan tetangga di seberang dinding
-                int nr = r, nc = c;
-                if (wallIdx == 0) nr--;
-                else if (wallIdx == 1) nc++;
-                else if (wallIdx == 2) nr++;
-                else if (wallIdx == 3) nc--;
-
-                // Pastikan koordinat tetangga valid
-                if (isValid(nr, nc)) {
-                    Cell neighbor = grid[nr][nc];
-                    // Hapus dinding di kedua sisi (cell & neighbor)
-                    removeWalls(cell, neighbor);
-                    removed++;
-                }
-            }
-        }
+    public void generateWeightedTerrain(MazeGenerator generator) {
+        runGenerator(() -> getModel().generateWeightedTerrain(generator, new Random().nextLong()));
     }
 
     public void solveWeighted(boolean useAStar) {
-        if (isGenerating || isSolving) return;
-
-        isSolving = true;
-        resetSolver();
-        String algoName = useAStar ? "A* (A-Star)" : "Dijkstra";
-        if (statsCallback != null) statsCallback.accept("Running " + algoName + "...");
-
-        new Thread(() -> {
-            Map<Cell, Integer> dist = new HashMap<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            PriorityQueue<double[]> pq = new PriorityQueue<>(Comparator.comparingDouble(a -> a[0]));
-
-            for(int r=0; r<ROWS; r++)
-                for(int c=0; c<COLS; c++) dist.put(grid[r][c], Integer.MAX_VALUE);
-
-            dist.put(startCell, 0);
-            pq.add(new double[]{0, startCell.r, startCell.c});
-
-            boolean found = false;
-            int visitedNodesCount = 0;
-
-            while (!pq.isEmpty()) {
-                double[] currData = pq.poll();
-                Cell current = grid[(int)currData[1]][(int)currData[2]];
-
-                if (current == endCell) {
-                    found = true;
-                    break;
-                }
-
-                // Optimization: Skip jika kita sudah menemukan rute lebih baik ke node ini
-                if (currData[0] > (useAStar ? (dist.get(current) + heuristic(current, endCell)) : dist.get(current))) {
-                    // continue;
-                }
-
-                if (!current.searchVisited) {
-                    current.searchVisited = true;
-                    visitedNodesCount++;
-                    if (visitedNodesCount % 5 == 0) visualize(1);
-                }
-
-                for (Cell neighbor : getConnectedNeighbors(current)) {
-                    int cost = useTerrainMode ? terrainGrid[neighbor.r][neighbor.c] : 1;
-                    int newDist = dist.get(current) + cost;
-
-                    if (newDist < dist.get(neighbor)) {
-                        dist.put(neighbor, newDist);
-                        parent.put(neighbor, current);
-
-                        double priority = newDist;
-                        if(useAStar) priority += heuristic(neighbor, endCell);
-
-                        pq.add(new double[]{priority, neighbor.r, neighbor.c});
-                    }
-                }
-            }
-
-            if (found) {
-                reconstructPath(parent.get(endCell), parent);
+        solveWeighted(useAStar, WeightedMazeModel.WeightedEngine.BINARY_HEAP);
+    }
 
-                int finalCost = dist.get(endCell);
-                int finalVisitedNodes = visitedNodesCount;
+    public void solveWeighted(boolean useAStar, WeightedMazeModel.WeightedEngine engine) {
+        runSolver(5, 1, 15, () -> getModel().solveWeighted(useAStar, engine));
+    }
 
-                String result = String.format("""
-                    Algorithm: %s
-                    ----------------
-                    Status: Finished
-                    Total Cost: %d
-                    Nodes Visited: %d
-                    Efficiency: %.2f%%
-                    (Map has Loops)
-                    """, algoName, finalCost, finalVisitedNodes, ((double)finalVisitedNodes/(ROWS*COLS))*100);
+    // Hitung flow field ke titik akhir; overlay muncul setelah selesai (jika showFlowField)
+    public void computeFlowField() {
+        runTask(getModel()::computeFlowField);
+    }
 
-                if (statsCallback != null) statsCallback.accept(result);
-            }
-            isSolving = false;
-            repaint();
-        }).start();
+    public void setShowFlowField(boolean show) {
+        showFlowField = show;
+        invalidateTiles();
+        repaint();
     }
 
-    private double heuristic(Cell a, Cell b) {
-        return (Math.abs(a.r - b.r) + Math.abs(a.c - b.c));
+    // Alat cat terrain mengubah biaya sel; alat dinding ditangani Maze
+    @Override
+    protected boolean editCell(int cell, int fx, int fy) {
+        if (editTool.terrainCost > 0) return getModel().setTerrain(cell, editTool.terrainCost);
+        return super.editCell(cell, fx, fy);
     }
 
-    private void reconstructPath(Cell curr, Map<Cell, Cell> parent) {
-        while (curr != null) {
-            finalPath.add(curr);
-            curr = parent.get(curr);
-            visualize(15);
+    // Terrain + angka bobot masuk ke tile statis Maze (dirasterisasi sekali per versi model / zoom)
+    @Override
+    protected void drawCellBackground(Graphics2D g2, int cell, int x, int y) {
+        WeightedMazeModel model = getModel();
+        if (!model.isTerrainMode()) return;
+
+        int w = model.terrain(cell);
+        if (w == WeightedMazeModel.COST_MUD) g2.setColor(C_MUD);
+        else if (w == WeightedMazeModel.COST_WATER) g2.setColor(C_WATER);
+        else g2.setColor(C_GRASS);
+        g2.fillRect(x, y, cellSize, cellSize);
+
+        // Gambar Angka Bobot
+        if (cellSize > 15) {
+            if (labelFont == null || labelFont.getSize() != Math.max(10, cellSize / 2)) {
+                labelFont = new Font("SansSerif", Font.BOLD, Math.max(10, cellSize / 2));
+            }
+            g2.setFont(labelFont);
+            FontMetrics fm = g2.getFontMetrics();
+            g2.setColor(C_LABEL);
+            String text = String.valueOf(w);
+            int textX = x + (cellSize - fm.stringWidth(text)) / 2;
+            int textY = y + ((cellSize - fm.getHeight()) / 2) + fm.getAscent();
+            g2.drawString(text, textX, textY);
         }
-        Collections.reverse(finalPath);
     }
 
     @Override
-    protected void paintComponent(Graphics g) {
-        super.calculateDimensions();
+    protected int cellRgb(int cell) {
+        WeightedMazeModel model = getModel();
+        if (!model.isTerrainMode()) return super.cellRgb(cell);
+        int w = model.terrain(cell);
+        if (w == WeightedMazeModel.COST_MUD) return C_MUD.getRGB();
+        if (w == WeightedMazeModel.COST_WATER) return C_WATER.getRGB();
+        return C_GRASS.getRGB();
+    }
 
-        if (!useTerrainMode) {
-            this.drawScan = true;
-            super.paintComponent(g);
+    @Override
+    protected void drawScanCell(Graphics2D g2, int cell, int x, int y) {
+        if (!getModel().isTerrainMode()) {
+            super.drawScanCell(g2, cell, x, y);
             return;
         }
+        g2.setColor(C_SCAN);
+        g2.fillRect(x, y, cellSize, cellSize);
+    }
 
-        this.drawScan = false;
-
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        g2.setFont(new Font("SansSerif", Font.BOLD, Math.max(10, cellSize / 2)));
-        FontMetrics fm = g2.getFontMetrics();
-
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                int w = terrainGrid[r][c];
-
-                if (w == COST_MUD) g2.setColor(C_MUD);
-                else if (w == COST_WATER) g2.setColor(C_WATER);
-                else g2.setColor(C_GRASS);
-                g2.fillRect(startX + c * cellSize, startY + r * cellSize, cellSize, cellSize);
-
-                // Gambar Angka Bobot
-                if (cellSize > 15) {
-                    g2.setColor(new Color(255, 255, 255, 180));
-                    String text = String.valueOf(w);
-                    int textX = startX + c * cellSize + (cellSize - fm.stringWidth(text)) / 2;
-                    int textY = startY + r * cellSize + ((cellSize - fm.getHeight()) / 2) + fm.getAscent();
-                    g2.drawString(text, textX, textY);
-                }
-
-                if (grid[r][c].searchVisited) {
-                    g2.setColor(new Color(255, 255, 255, 100));
-                    g2.fillRect(startX + c * cellSize, startY + r * cellSize, cellSize, cellSize);
-                }
-            }
-        }
-
-        super.drawMazeElements(g2);
+    // Flow field: warna menurut biaya ke target, panah arah langkah berikutnya jika sel cukup besar.
+    // Digambar ke tile, jadi tile dibuang otomatis begitu maze berubah (field jadi basi).
+    @Override
+    protected void drawCellOverlay(Graphics2D g2, int cell, int x, int y) {
+        if (!showFlowField) return;
+        FlowField field = model.getFlowField();
+        if (field == null) return;
+        int d = field.distance(cell);
+        if (d == FlowField.UNREACHABLE) return;
+
+        int max = Math.max(1, field.maxDistance());
+        g2.setColor(FIELD_RAMP[(int) ((long) d * (FIELD_RAMP.length - 1) / max)]);
+        g2.fillRect(x, y, cellSize, cellSize);
+
+        int dir = field.direction(cell);
+        if (dir < 0 || cellSize < 10) return;
+        int dx = dir == MazeGrid.RIGHT ? 1 : dir == MazeGrid.LEFT ? -1 : 0;
+        int dy = dir == MazeGrid.BOTTOM ? 1 : dir == MazeGrid.TOP ? -1 : 0;
+        int cx = x + cellSize / 2, cy = y + cellSize / 2, len = cellSize * 3 / 10, head = Math.max(2, cellSize / 6);
+        int tipX = cx + dx * len, tipY = cy + dy * len;
+        g2.setColor(C_ARROW);
+        g2.setStroke(STROKE_ARROW);
+        g2.drawLine(cx - dx * len, cy - dy * len, tipX, tipY);
+        g2.drawLine(tipX, tipY, tipX - dx * head - dy * head, tipY - dy * head - dx * head);
+        g2.drawLine(tipX, tipY, tipX - dx * head + dy * head, tipY - dy * head + dx * head);
     }
-}
\ No newline at end of file
+}
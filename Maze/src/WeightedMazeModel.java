@@ -0,0 +1,241 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+
+// Model maze berbobot (terrain) tanpa GUI
+public class WeightedMazeModel extends MazeModel {
+
+    public static final int COST_GRASS = 1;
+    public static final int COST_MUD = 5;
+    public static final int COST_WATER = 10;
+
+    // Biaya terrain per sel (index = r * cols + c), cukup 1 byte karena biaya maksimal 10.
+    // ByteBuffer (bukan byte[]) supaya terrain bisa langsung di-map dari file oleh MazeFile.
+    protected ByteBuffer terrainGrid;
+    protected boolean useTerrainMode = false;
+
+    public WeightedMazeModel(int rows, int cols) {
+        super(rows, cols);
+        addEditListener(hpa);
+    }
+
+    public WeightedMazeModel(int rows, int cols, boolean offHeap) {
+        super(rows, cols, offHeap);
+        addEditListener(hpa);
+    }
+
+    @Override
+    public void resize(int rows, int cols, boolean offHeap) {
+        super.resize(rows, cols, offHeap);
+        terrainGrid = ByteBuffer.allocate(grid.size());
+    }
+
+    public boolean isTerrainMode() { return useTerrainMode; }
+    public int terrain(int cell) { return terrainGrid.get(cell); }
+
+    @Override
+    public int cost(int cell) {
+        return useTerrainMode ? terrainGrid.get(cell) : 1;
+    }
+
+    @Override
+    public int maxCost() {
+        return useTerrainMode ? COST_WATER : 1;
+    }
+
+    @Override
+    public void generate(MazeGenerator generator, Random rand) {
+        useTerrainMode = false;
+        super.generate(generator, rand);
+    }
+
+    public void generateWeightedTerrain() {
+        generateWeightedTerrain(new PrimGenerator(), new Random().nextLong());
+    }
+
+    public void generateWeightedTerrain(Random rand) {
+        generateWeightedTerrain(new PrimGenerator(), rand);
+    }
+
+    public void generateWeightedTerrain(MazeGenerator generator, long seed) {
+        generateWeightedTerrain(generator, new Random(seed));
+        this.seed = seed;
+        this.hasSeed = true;
+    }
+
+    public void generateWeightedTerrain(MazeGenerator generator, Random rand) {
+        // Satu run GENERATE mencakup maze, terrain, dan loops
+        metrics.begin(RunMetrics.Kind.GENERATE, generator.name(), grid.size());
+        try {
+            // 1. Generate Struktur Dasar (Perfect Maze)
+            generateMaze(generator, rand);
+            useTerrainMode = true;
+
+            // 2. Assign Weights (Terrain)
+            for (int i = 0, n = grid.size(); i < n; i++) {
+                double p = rand.nextDouble();
+                if (p < 0.60) terrainGrid.put(i, (byte) COST_GRASS);
+                else if (p < 0.85) terrainGrid.put(i, (byte) COST_MUD);
+                else terrainGrid.put(i, (byte) COST_WATER);
+            }
+            terrainGrid.put(startCell, (byte) COST_GRASS);
+            terrainGrid.put(endCell, (byte) COST_GRASS);
+
+            // 3. [PENTING] Tambahkan Loops agar ada banyak jalur alternatif!
+            // Kita acak menghapus dinding tambahan sebanyak 10% dari total sel
+            addLoops(rand, grid.size() / 10);
+            version++;
+            metrics.end(true, 0, 0);
+        } finally {
+            metrics.endIfRunning();
+        }
+
+        stats("Terrain Generated with Loops.\nMultiple paths available for comparison.");
+    }
+
+    // Pakai grid + terrain yang sudah jadi (terrain == null berarti maze tanpa bobot)
+    public void attach(MazeGrid grid, int startCell, int endCell, long seed, boolean hasSeed, String generatorName,
+                       ByteBuffer terrain) {
+        useTerrainMode = terrain != null;
+        terrainGrid = terrain != null ? terrain : ByteBuffer.allocate(grid.size());
+        super.attach(grid, startCell, endCell, seed, hasSeed, generatorName);
+    }
+
+    @Override
+    public WeightedMazeModel snapshot() {
+        WeightedMazeModel copy = new WeightedMazeModel(1, 1);
+        ByteBuffer terrain = null;
+        if (useTerrainMode) {
+            terrain = ByteBuffer.allocate(grid.size());
+            terrain.put(0, terrainGrid, 0, grid.size());
+        }
+        copy.attach(grid.copy(), startCell, endCell, seed, hasSeed, generatorName, terrain);
+        return copy;
+    }
+
+    // Ubah biaya satu sel (hanya di mode terrain). False jika tidak ada yang berubah.
+    public boolean setTerrain(int cell, int cost) {
+        if (!useTerrainMode || terrain(cell) == cost) return false;
+        terrainGrid.put(cell, (byte) cost);
+        version++;
+        for (MazeEditListener l : editListeners) l.costChanged(this, cell);
+        return true;
+    }
+
+    // Terrain mentah (dipakai MazeFile saat menyimpan)
+    ByteBuffer terrainBuffer() {
+        return terrainGrid;
+    }
+
+    // Menghapus dinding secara acak untuk membuat jalur alternatif
+    public void addLoops(Random rand, int count) {
+        int rows = grid.rows, cols = grid.cols;
+        if (rows < 3 || cols < 3) return; // Tidak ada sel di tengah
+
+        int removed = 0;
+        while (removed < count) {
+            int r = rand.nextInt(rows - 2) + 1; // Hindari pinggir
+            int c = rand.nextInt(cols - 2) + 1;
+
+            int cell = grid.index(r, c);
+            // Pilih dinding acak untuk dihapus (0=Top, 1=Right, 2=Bottom, 3=Left)
+            int wallIdx = rand.nextInt(4);
+
+            // Cek apakah dinding itu masih ada
+            if (grid.hasWall(cell, wallIdx)) {
+                // Tentukan tetangga di seberang dinding
+                int neighbor = grid.neighbor(cell, wallIdx);
+
+                // Pastikan koordinat tetangga valid
+                if (neighbor >= 0) {
+                    // Hapus dinding di kedua sisi (cell & neighbor)
+                    removeWalls(cell, neighbor);
+                    removed++;
+                }
+            }
+        }
+        version++;
+    }
+
+    // Batch di terrain memakai A* dengan bucket queue (biaya kecil), selain itu BFS dua arah
+    @Override
+    protected MazeSolver newBatchSolver() {
+        return useTerrainMode ? new BucketQueueSolver(true) : super.newBatchSolver();
+    }
+
+    // Pilihan engine untuk Dijkstra / A*
+    public enum WeightedEngine {
+        BINARY_HEAP("Binary Heap"),
+        DIAL_BUCKETS("Dial Buckets"),
+        JUNCTION_GRAPH("Junction Graph"),
+        LANDMARKS("Landmarks (ALT)"),
+        INCREMENTAL("Incremental (LPA*)"),
+        HIERARCHICAL("Hierarchical (HPA*)");
+
+        public final String label;
+
+        WeightedEngine(String label) {
+            this.label = label;
+        }
+    }
+
+    // Engine Dijkstra / A* (state dipakai ulang antar solve)
+    private final IndexedDijkstraSolver dijkstra = new IndexedDijkstraSolver(false);
+    private final IndexedDijkstraSolver aStar = new IndexedDijkstraSolver(true);
+    private final BucketQueueSolver dialDijkstra = new BucketQueueSolver(false);
+    private final BucketQueueSolver dialAStar = new BucketQueueSolver(true);
+    private final JunctionGraphSolver junctionDijkstra = new JunctionGraphSolver(false);
+    private final JunctionGraphSolver junctionAStar = new JunctionGraphSolver(true);
+    private final AltSolver alt = new AltSolver();
+    private final HpaSolver hpa = new HpaSolver();
+
+    public SolveResult solveWeighted(boolean useAStar) {
+        return solveWeighted(useAStar, WeightedEngine.BINARY_HEAP);
+    }
+
+    public SolveResult solveWeighted(boolean useAStar, WeightedEngine engine) {
+        switch (engine) {
+            case DIAL_BUCKETS:   return solve(useAStar ? dialAStar : dialDijkstra);
+            case JUNCTION_GRAPH: return solve(useAStar ? junctionAStar : junctionDijkstra);
+            // ALT hanya berguna sebagai heuristik, jadi Dijkstra tetap memakai binary heap biasa
+            case LANDMARKS:      return solve(useAStar ? alt : dijkstra);
+            // LPA* selalu memakai heuristik; path-nya yang diperbaiki saat maze diedit
+            case INCREMENTAL:    return solve(useAStar ? planner : dijkstra);
+            // HPA* adalah A* di graf cluster; Dijkstra tetap dicari penuh sebagai pembanding optimal
+            case HIERARCHICAL:   return solve(useAStar ? hpa : dijkstra);
+            default:             return solve(useAStar ? aStar : dijkstra);
+        }
+    }
+
+    // --- Hierarchical (HPA*) ---
+
+    // Bangun graf cluster sekarang (paralel); kalau tidak, dibangun otomatis saat solve HPA* pertama
+    public HpaGraph buildHpaGraph() {
+        return hpa.graphFor(this);
+    }
+
+    // --- Landmark index (ALT) ---
+
+    // Bangun index sekarang (paralel); kalau tidak, dibangun otomatis saat solve ALT pertama
+    public LandmarkIndex buildLandmarkIndex() {
+        return alt.indexFor(this);
+    }
+
+    public boolean hasLandmarkIndex() {
+        return alt.currentIndex(this) != null;
+    }
+
+    // Simpan index yang sudah dibangun (MazeFile.save menaruhnya di samping file maze supaya tidak perlu
+    // dibangun ulang setiap start). False jika belum ada index untuk isi maze sekarang.
+    public boolean saveLandmarkIndex(Path path) throws IOException {
+        LandmarkIndex index = alt.currentIndex(this);
+        if (index == null) return false;
+        index.save(path);
+        return true;
+    }
+
+    public void loadLandmarkIndex(Path path) throws IOException {
+        alt.setIndex(LandmarkIndex.load(path, this));
+    }
+}
@@ -0,0 +1,46 @@
+import java.util.Random;
+
+// Wilson: uniform spanning tree lewat loop-erased random walk.
+// Dari setiap sel di luar tree dilakukan random walk sampai menyentuh tree; arah terakhir
+// yang diambil dari setiap sel disimpan (otomatis menghapus loop), lalu jalur itu ditempel ke tree.
+// Lambat di awal (walk pertama panjang), tapi hasilnya tidak bias seperti Prim / backtracker.
+public class WilsonGenerator implements MazeGenerator {
+
+    @Override
+    public String name() { return "Wilson"; }
+
+    @Override
+    public void generate(MazeGrid grid, Random rand, MazeListener listener) {
+        int n = grid.size();
+        byte[] walkDir = new byte[n];
+
+        // Sel pertama di tree dipilih acak; flag visited grid = "sudah di tree"
+        grid.setVisited(rand.nextInt(n), true);
+
+        for (int start = 0; start < n; start++) {
+            if (grid.isVisited(start)) continue;
+
+            // 1. Random walk sampai menyentuh tree, catat arah keluar terakhir per sel
+            int cell = start;
+            while (!grid.isVisited(cell)) {
+                int dir, next;
+                do {
+                    dir = rand.nextInt(4);
+                    next = grid.neighbor(cell, dir);
+                } while (next < 0);
+                walkDir[cell] = (byte) dir;
+                cell = next;
+            }
+
+            // 2. Telusuri ulang dari start mengikuti arah terakhir (loop sudah terhapus)
+            cell = start;
+            while (!grid.isVisited(cell)) {
+                int dir = walkDir[cell];
+                grid.carve(cell, dir);
+                grid.setVisited(cell, true);
+                if (listener != null) listener.onGenerateStep(cell);
+                cell = grid.neighbor(cell, dir);
+            }
+        }
+    }
+}
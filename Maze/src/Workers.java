@@ -0,0 +1,19 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Executor bersama untuk pekerjaan GUI yang lama (generate, solve, race), pengganti new Thread() per klik.
+// Thread daemon, jadi aplikasi tetap bisa ditutup saat masih ada run. Pembatalan lewat Future.cancel(true):
+// run berhenti di titik batal berikutnya (lihat RunMetrics.expand).
+public final class Workers {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    public static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "maze-worker-" + COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private Workers() {}
+}